@@ -0,0 +1,80 @@
+package com.todo.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터가 요청마다 수행하는 JWT 검증/Authentication 생성, 로그인/재발급 시의 토큰 생성 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET =
+            "VG9kb0FwcFNlY3JldEtleU11c3RCZUxvbmdFbm91Z2hGb3JIUzUxMkFsZ29yaXRobU9yYXRMZWFzdDI1NkJpdHM=";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenProvider cachingProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 1_800_000L, 1_209_600_000L);
+        authentication = new UsernamePasswordAuthenticationToken("bench@example.com", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = jwtTokenProvider.generateAccessToken(authentication, 1L, "bench");
+        cachingProvider = new JwtTokenProvider(SECRET, 1_800_000L, 1_209_600_000L, 10_000, Duration.ofMinutes(5));
+        cachingProvider.authenticate(token);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(authentication, 1L, "bench");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(token);
+    }
+
+    /**
+     * 인증 필터 한 번의 비용 - 캐시 없음 (파싱/서명 검증 1회)
+     */
+    @Benchmark
+    public Authentication authenticate() {
+        return jwtTokenProvider.authenticate(token);
+    }
+
+    /**
+     * 인증 필터 한 번의 비용 - 캐시 적중 (digest 계산 + 조회)
+     */
+    @Benchmark
+    public Authentication authenticateCached() {
+        return cachingProvider.authenticate(token);
+    }
+}
@@ -0,0 +1,90 @@
+package com.todo.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.entity.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 응답 비용: 엔티티 → TodoResponse 변환과 List<TodoResponse> JSON 직렬화 (100/1k/10k건)
+ *
+ * ObjectMapper는 Spring MVC와 같은 기본 설정(Jackson2ObjectMapperBuilder)으로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoResponseBenchmark {
+
+    private Todo todo;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        todo = persistedTodo(1L, "장보기 - 우유, 계란, 빵", 1024);
+    }
+
+    @Benchmark
+    public TodoResponse from() {
+        return TodoResponse.from(todo);
+    }
+
+    @Benchmark
+    public byte[] serializeList(ListState state) throws JsonProcessingException {
+        return state.objectMapper.writeValueAsBytes(state.responses);
+    }
+
+    /**
+     * 직렬화할 목록 (크기별로 따로 측정)
+     */
+    @State(Scope.Benchmark)
+    public static class ListState {
+
+        @Param({ "100", "1000", "10000" })
+        private int size;
+
+        private ObjectMapper objectMapper;
+        private List<TodoResponse> responses;
+
+        @Setup
+        public void setUp() throws ReflectiveOperationException {
+            objectMapper = Jackson2ObjectMapperBuilder.json().build();
+            responses = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                responses.add(TodoResponse.from(persistedTodo((long) i, "할 일 " + i, (i + 1) * 1024)));
+            }
+        }
+    }
+
+    /**
+     * 저장된 엔티티와 같은 상태(id, 생성/수정 시간)의 Todo
+     */
+    private static Todo persistedTodo(Long id, String text, int displayOrder) throws ReflectiveOperationException {
+        Todo todo = Todo.builder().text(text).displayOrder(displayOrder).build();
+        Field idField = Todo.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(todo, id);
+        Method onCreate = Todo.class.getDeclaredMethod("onCreate");
+        onCreate.setAccessible(true);
+        onCreate.invoke(todo);
+        return todo;
+    }
+}
@@ -0,0 +1,75 @@
+package com.todo.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.dto.TodoRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 에러 응답 생성 비용: 예외 생성 + 핸들러 + ErrorResponse JSON 직렬화
+ *
+ * 예외 생성(스택 트레이스 채우기)을 포함해 실제 실패 요청 한 번과 같은 작업을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper objectMapper;
+    private MethodParameter requestParameter;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        requestParameter = new MethodParameter(
+                GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("create", TodoRequest.class), 0);
+    }
+
+    @Benchmark
+    public byte[] notFound() throws JsonProcessingException {
+        return render(handler.handleResourceNotFoundException(
+                new ResourceNotFoundException("할 일을 찾을 수 없습니다. id: 42")).getBody());
+    }
+
+    @Benchmark
+    public byte[] unauthorized() throws JsonProcessingException {
+        return render(handler.handleUnauthorizedException(
+                new UnauthorizedException("유효하지 않은 토큰입니다.")).getBody());
+    }
+
+    @Benchmark
+    public byte[] validation() throws JsonProcessingException {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new TodoRequest(), "todoRequest");
+        bindingResult.rejectValue("text", "NotBlank", "할 일 내용은 필수입니다");
+        return render(handler.handleValidationException(
+                new MethodArgumentNotValidException(requestParameter, bindingResult)).getBody());
+    }
+
+    private byte[] render(GlobalExceptionHandler.ErrorResponse body) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @SuppressWarnings("unused")
+    private void create(TodoRequest request) {
+    }
+}
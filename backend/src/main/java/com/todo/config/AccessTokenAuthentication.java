@@ -0,0 +1,42 @@
+package com.todo.config;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * 검증된 Access Token으로 만든 불변 Authentication
+ *
+ * 같은 토큰의 요청들이 캐시된 인스턴스 하나를 공유하므로 생성 후 상태(인증 여부, details)를 바꿀 수 없다.
+ */
+public final class AccessTokenAuthentication extends AbstractAuthenticationToken {
+
+    private final MemberPrincipal principal;
+
+    public AccessTokenAuthentication(MemberPrincipal principal, Collection<? extends GrantedAuthority> authorities) {
+        super(authorities);
+        this.principal = principal;
+        super.setAuthenticated(true);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return "";
+    }
+
+    @Override
+    public MemberPrincipal getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        throw new UnsupportedOperationException("AccessTokenAuthentication은 변경할 수 없습니다.");
+    }
+
+    @Override
+    public void setDetails(Object details) {
+        throw new UnsupportedOperationException("AccessTokenAuthentication은 변경할 수 없습니다.");
+    }
+}
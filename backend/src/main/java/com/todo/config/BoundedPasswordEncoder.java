@@ -0,0 +1,132 @@
+package com.todo.config;
+
+import com.todo.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 해시 계산(encode/matches)을 크기가 정해진 전용 스레드 풀에서 실행하는 PasswordEncoder
+ *
+ * - 로그인/회원가입이 몰려도 해시에 쓰이는 CPU는 threads개로 제한되어 나머지 요청 처리가 밀리지 않음
+ * - 대기열이 가득 찼거나 queueTimeout 안에 시작하지 못한 작업은 계산하지 않고 503 (ServiceUnavailableException)
+ *   (시작하지 못한 작업은 대기열에서 바로 빠짐)
+ * - 이미 시작한 작업은 끝까지 기다림 (계산한 결과를 버리지 않도록)
+ * - upgradeEncoding은 해시 문자열만 보므로 호출 스레드에서 바로 실행
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int ABANDONED = 2;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long queueTimeoutNanos;
+
+    private final Counter rejected;
+    private final Timer queueWait;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.queueTimeoutNanos = properties.getQueueTimeout().toNanos();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()), runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.rejected = Counter.builder("password.hashing.rejected").register(meterRegistry);
+        this.queueWait = Timer.builder("password.hashing.queue.wait")
+                .description("해시 작업이 대기열에서 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T call(Supplier<T> hashing) {
+        long submittedAt = System.nanoTime();
+        AtomicInteger state = new AtomicInteger(QUEUED);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable task = () -> {
+            // 호출 쪽이 대기 시간 초과로 포기한 작업은 계산하지 않음
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                return;
+            }
+            queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                result.complete(hashing.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+
+        try {
+            try {
+                return result.get(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (state.compareAndSet(QUEUED, ABANDONED)) {
+                    // 포기한 작업이 대기열 자리를 계속 차지하지 않도록 바로 뺀다
+                    executor.remove(task);
+                    throw busy();
+                }
+                return result.get();
+            }
+        } catch (InterruptedException e) {
+            if (state.compareAndSet(QUEUED, ABANDONED)) {
+                executor.remove(task);
+            }
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+    }
+
+    private ServiceUnavailableException busy() {
+        rejected.increment();
+        return new ServiceUnavailableException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
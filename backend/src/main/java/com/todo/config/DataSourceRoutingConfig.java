@@ -0,0 +1,74 @@
+package com.todo.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 (app.datasource.replicas가 있을 때만)
+ *
+ * - primary: spring.datasource + spring.datasource.hikari (Boot 기본 설정과 동일하게 바인딩)
+ * - replica: app.datasource.replicas[n]의 Hikari 설정으로 풀을 따로 생성
+ * - 애플리케이션이 쓰는 DataSource(@Primary)는 LazyConnectionDataSourceProxy(ReplicaRoutingDataSource)
+ *
+ * 복제본 풀은 빈이 아니므로 Hikari 메트릭(hikaricp.*, pool 태그)은 여기서 직접 연결하고,
+ * 종료 시 닫는 것도 이 설정이 맡는다 (dataSource 빈이 이 설정에 의존하므로 JPA 종료 뒤에 닫힘).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replicas[0]", name = "jdbc-url")
+public class DataSourceRoutingConfig implements DisposableBean {
+
+    private final List<HikariDataSource> replicaPools = new ArrayList<>();
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaDataSourceProperties properties,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            HikariConfig config = properties.getReplicas().get(i);
+            if (config.getPoolName() == null) {
+                config.setPoolName("replica-" + (i + 1));
+            }
+            config.setReadOnly(true);
+            meterRegistry.ifAvailable(registry ->
+                    config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            HikariDataSource replica = new HikariDataSource(config);
+            replicaPools.add(replica);
+            replicas.add(replica);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                properties.getReadYourWritesWindow(), properties.getReadYourWritesMaxMembers());
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Override
+    public void destroy() {
+        replicaPools.forEach(HikariDataSource::close);
+    }
+}
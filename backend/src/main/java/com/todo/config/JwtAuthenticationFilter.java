@@ -20,6 +20,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
 
+    /**
+     * 앞선 필터(RateLimitFilter)가 이미 검증한 Authentication을 담는 요청 속성 (같은 토큰을 다시 검증하지 않음)
+     */
+    static final String VERIFIED_AUTHENTICATION_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".VERIFIED";
+
     private final JwtTokenProvider jwtTokenProvider;
 
     @Override
@@ -28,9 +33,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(token)) {
+            // 검증과 Authentication 복원을 한 번에 (같은 토큰은 캐시에서 바로 반환)
+            Authentication authentication =
+                    request.getAttribute(VERIFIED_AUTHENTICATION_ATTRIBUTE) instanceof Authentication verified
+                            ? verified
+                            : jwtTokenProvider.authenticate(token);
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response);
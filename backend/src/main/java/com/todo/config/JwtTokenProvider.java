@@ -1,45 +1,93 @@
 package com.todo.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.todo.exception.UnauthorizedException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+/**
+ * JWT 생성/검증
+ *
+ * - 파서는 생성 시 한 번만 만들어 재사용 (스레드 안전)
+ * - 인증 필터는 authenticate()로 검증과 Authentication 복원을 한 번의 파싱으로 처리
+ * - 검증된 토큰은 SHA-256 digest를 키로 불변 Authentication을 캐시하여,
+ *   같은 토큰이 반복해서 오면 서명 검증과 JSON 파싱을 건너뜀 (크기/시간 제한, 토큰 exp를 넘기지 않음)
+ */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String MEMBER_ID_KEY = "memberId";
 
     private final Key key;
+    private final JwtParser parser;
     private final long accessTokenValidity;
     private final long refreshTokenValidity;
 
+    /**
+     * 검증된 토큰 캐시 (token digest → Authentication), 비활성화 시 null
+     */
+    private final Cache<String, VerifiedToken> authenticationCache;
+
+    /**
+     * auth claim 문자열 → 권한 목록 (서명된 토큰의 값만 들어오므로 역할 조합 수만큼만 생김)
+     */
+    private final Map<String, List<GrantedAuthority>> authoritiesByClaim = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 없이 생성 (테스트/벤치마크용)
+     */
+    public JwtTokenProvider(String secretKey, long accessTokenValidity, long refreshTokenValidity) {
+        this(secretKey, accessTokenValidity, refreshTokenValidity, 0, Duration.ZERO);
+    }
+
+    @Autowired
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.access-token-validity}") long accessTokenValidity,
-            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity) {
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+            @Value("${jwt.authentication-cache.max-size:10000}") long cacheMaxSize,
+            @Value("${jwt.authentication-cache.ttl:5m}") Duration cacheTtl) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith((SecretKey) key).build();
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
+        this.authenticationCache = cacheMaxSize > 0 && !cacheTtl.isZero()
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfter(new TokenExpiry(cacheTtl))
+                        .build()
+                : null;
     }
 
     public long getRefreshTokenValidity() {
@@ -51,6 +99,14 @@ public class JwtTokenProvider {
     }
 
     public String generateAccessToken(Authentication authentication, String nickname) {
+        return generateAccessToken(authentication, null, nickname);
+    }
+
+    /**
+     * memberId claim을 포함한 Access Token 생성
+     * (인증 필터가 members 조회 없이 회원 식별 가능)
+     */
+    public String generateAccessToken(Authentication authentication, Long memberId, String nickname) {
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
@@ -63,6 +119,10 @@ public class JwtTokenProvider {
                 .claim(AUTHORITIES_KEY, authorities)
                 .expiration(accessTokenExpiresIn);
 
+        if (memberId != null) {
+            builder.claim(MEMBER_ID_KEY, memberId);
+        }
+
         if (nickname != null && !nickname.isBlank()) {
             builder.claim("nickname", nickname);
         }
@@ -74,6 +134,32 @@ public class JwtTokenProvider {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * Access Token 검증 + Authentication 복원 (인증 필터용, 토큰당 파싱 1회)
+     *
+     * @return 유효한 토큰이면 불변 Authentication, 아니면 null
+     */
+    public Authentication authenticate(String accessToken) {
+        if (authenticationCache == null) {
+            VerifiedToken verified = verify(accessToken);
+            return verified != null ? verified.authentication() : null;
+        }
+
+        String digest = digest(accessToken);
+        VerifiedToken cached = authenticationCache.getIfPresent(digest);
+        if (cached != null) {
+            return cached.authentication();
+        }
+        VerifiedToken verified = verify(accessToken);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.expiresAtMillis() > 0) {
+            authenticationCache.put(digest, verified);
+        }
+        return verified.authentication();
+    }
+
     public Authentication getAuthentication(String accessToken) {
         Claims claims = parseClaims(accessToken);
 
@@ -86,14 +172,41 @@ public class JwtTokenProvider {
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        MemberPrincipal principal = new MemberPrincipal(getMemberId(claims), claims.getSubject(), authorities);
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
     public boolean validateToken(String token) {
+        return parseVerified(token) != null;
+    }
+
+    /**
+     * 서명/만료 검증 후 Authentication 생성, 유효하지 않으면 null
+     */
+    private VerifiedToken verify(String accessToken) {
+        Claims claims = parseVerified(accessToken);
+        if (claims == null) {
+            return null;
+        }
+        Object authClaim = claims.get(AUTHORITIES_KEY);
+        if (authClaim == null) {
+            log.info("권한 정보가 없는 JWT 토큰입니다.");
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = authoritiesByClaim.computeIfAbsent(authClaim.toString(),
+                claim -> Arrays.stream(claim.split(","))
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toUnmodifiableList()));
+        MemberPrincipal principal = new MemberPrincipal(getMemberId(claims), claims.getSubject(), authorities);
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(new AccessTokenAuthentication(principal, authorities),
+                expiration != null ? expiration.getTime() : 0);
+    }
+
+    private Claims parseVerified(String token) {
         try {
-            Jwts.parser().verifyWith((SecretKey) key).build().parseSignedClaims(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -103,14 +216,63 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
+    }
+
+    /**
+     * 캐시 키 (원문 토큰을 메모리에 키로 들고 있지 않도록 SHA-256 digest 사용)
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Long getMemberId(Claims claims) {
+        Object memberId = claims.get(MEMBER_ID_KEY);
+        if (memberId instanceof Number number) {
+            return number.longValue();
+        }
+        return null;
     }
 
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parser().verifyWith((SecretKey) key).build().parseSignedClaims(accessToken).getPayload();
+            return parser.parseSignedClaims(accessToken).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
+
+    /**
+     * 캐시 항목 만료까지 남은 시간: ttl과 토큰 만료까지 남은 시간 중 짧은 쪽
+     */
+    static long expireAfterNanos(Duration ttl, long expiresAtMillis, long nowMillis) {
+        long untilExpiration = TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAtMillis - nowMillis));
+        return Math.min(ttl.toNanos(), untilExpiration);
+    }
+
+    private record VerifiedToken(Authentication authentication, long expiresAtMillis) {
+    }
+
+    private record TokenExpiry(Duration ttl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return expireAfterNanos(ttl, value.expiresAtMillis(), System.currentTimeMillis());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package com.todo.config;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+/**
+ * Access Token에서 복원한 경량 인증 주체
+ *
+ * - 토큰의 memberId claim을 그대로 담아 매 요청마다 members 테이블을 조회하지 않음
+ * - UserDetails를 구현하여 @AuthenticationPrincipal UserDetails 사용처와 호환
+ * - memberId claim이 없는 이전 토큰은 id가 null (email 기반 조회로 대체)
+ */
+@Getter
+public class MemberPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    public MemberPrincipal(Long id, String email, Collection<? extends GrantedAuthority> authorities) {
+        this.id = id;
+        this.email = email;
+        this.authorities = authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+package com.todo.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 메트릭 설정 (Prometheus 수집: /actuator/prometheus)
+ *
+ * - 컨트롤러: http.server.requests (Spring MVC, uri는 경로 템플릿이라 id 값이 태그에 들어가지 않음)
+ * - 서비스: 클래스에 @Timed를 붙인 TodoService/AuthService의 메서드별 타이머 (class, method, exception 태그)
+ * - 리포지토리: spring.data.repository.invocations (Boot 자동 설정)
+ * - Hibernate: hibernate.* 세션 팩토리 통계 + 쿼리(HQL)별 실행 횟수/시간 (바인드 값은 태그에 없음)
+ * - Hikari 풀(hikaricp.*), Lettuce 명령 지연(lettuce.command.*): Boot 자동 설정
+ *
+ * 회원/Todo id 같은 값은 어떤 태그에도 넣지 않으며,
+ * 값이 늘어날 수 있는 태그(uri, query)는 MAX_TAG_VALUES개를 넘으면 새 값의 메트릭을 만들지 않는다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final int MAX_TAG_VALUES = 200;
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernateQueryMetrics hibernateQueryMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateQueryMetrics(entityManagerFactory.unwrap(SessionFactory.class), "entityManagerFactory",
+                List.of());
+    }
+
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> boundedTagsCustomizer() {
+        return registry -> registry.config()
+                .meterFilter(MeterFilter.maximumAllowableTags("http.server.requests", "uri", MAX_TAG_VALUES,
+                        MeterFilter.deny()))
+                .meterFilter(MeterFilter.maximumAllowableTags("hibernate.query", "query", MAX_TAG_VALUES,
+                        MeterFilter.deny()));
+    }
+}
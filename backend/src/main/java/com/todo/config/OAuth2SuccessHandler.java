@@ -2,7 +2,6 @@ package com.todo.config;
 
 import com.todo.entity.Member;
 import com.todo.repository.MemberRepository;
-import com.todo.entity.RefreshToken;
 import com.todo.repository.RefreshTokenRepository;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -79,11 +78,11 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         }
         Member member = memberOptional.get();
 
-        // JWT 토큰 생성 (nickname 포함)
+        // JWT 토큰 생성 (memberId, nickname 포함)
         String accessToken;
         String refreshToken;
         try {
-            accessToken = jwtTokenProvider.generateAccessToken(authentication, member.getNickname());
+            accessToken = jwtTokenProvider.generateAccessToken(authentication, member.getId(), member.getNickname());
             refreshToken = jwtTokenProvider.generateRefreshToken();
         } catch (Exception e) {
             log.error("JWT 토큰 생성 중 오류 발생", e);
@@ -91,9 +90,9 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
             return;
         }
 
-        // RefreshToken 저장 (덮어쓰기 방식)
+        // RefreshToken 저장 (회원의 이전 토큰은 무효화)
         try {
-            saveRefreshToken(member.getId().toString(), refreshToken);
+            saveRefreshToken(member.getId(), refreshToken);
         } catch (Exception e) {
             log.error("RefreshToken 저장 중 오류 발생", e);
             redirectWithError(request, response, "토큰 저장 중 오류가 발생했습니다.");
@@ -110,15 +109,10 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     }
 
     /**
-     * RefreshToken 저장 (Redis는 ID로 덮어쓰기됨)
+     * RefreshToken 저장 (이전 토큰 삭제와 함께 스크립트 한 번으로 처리)
      */
-    private void saveRefreshToken(String memberId, String refreshToken) {
-        RefreshToken refreshTokenEntity = RefreshToken.builder()
-                .id(memberId)
-                .refreshToken(refreshToken)
-                .expiration(jwtTokenProvider.getRefreshTokenValidity())
-                .build();
-        refreshTokenRepository.save(refreshTokenEntity);
+    private void saveRefreshToken(Long memberId, String refreshToken) {
+        refreshTokenRepository.issue(memberId, refreshToken, jwtTokenProvider.getRefreshTokenValidity());
         log.debug("RefreshToken 저장 완료: memberId={}", memberId);
     }
 
@@ -0,0 +1,32 @@
+package com.todo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * 비밀번호 해시 형식과 실행 위치
+ *
+ * - 형식: {id}해시 (DelegatingPasswordEncoder), 새 해시는 설정한 cost의 {bcrypt}
+ * - 접두어 없는 기존 BCrypt 해시도 그대로 검증하고, 형식/cost가 다르면 로그인 성공 시
+ *   DaoAuthenticationProvider가 UserDetailsPasswordService(CustomUserDetailsService)로 다시 저장한다
+ * - 계산은 BoundedPasswordEncoder의 전용 스레드 풀에서
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String ENCODING_ID = "bcrypt";
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(ENCODING_ID, Map.of(ENCODING_ID, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new BoundedPasswordEncoder(delegating, properties, meterRegistry);
+    }
+}
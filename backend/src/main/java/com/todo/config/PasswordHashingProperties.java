@@ -0,0 +1,60 @@
+package com.todo.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 설정
+ *
+ * 해시(BCrypt)는 CPU를 오래 쓰므로 요청 스레드가 아닌 전용 스레드 풀에서만 실행한다.
+ */
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt cost (바꾸면 기존 해시는 다음 로그인 성공 시 새 cost로 다시 저장됨)
+     */
+    @Min(4)
+    @Max(31)
+    private final int bcryptStrength;
+
+    /**
+     * 해시 전용 스레드 수 (CPU 코어보다 작게 두어 나머지 요청 처리 몫을 남김)
+     */
+    @Min(1)
+    private final int threads;
+
+    /**
+     * 대기 작업 최대 수 (가득 차면 바로 503)
+     * 해시를 기다리며 묶이는 요청 스레드는 최대 threads + queueCapacity개이므로 Tomcat 스레드 수보다 충분히 작게 둔다.
+     */
+    @Min(1)
+    private final int queueCapacity;
+
+    /**
+     * 대기 시간 한도 (이 안에 시작하지 못하면 503)
+     */
+    @NotNull
+    private final Duration queueTimeout;
+
+    public PasswordHashingProperties(
+            @DefaultValue("10") int bcryptStrength,
+            @DefaultValue("2") int threads,
+            @DefaultValue("8") int queueCapacity,
+            @DefaultValue("1s") Duration queueTimeout
+    ) {
+        this.bcryptStrength = bcryptStrength;
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+        this.queueTimeout = queueTimeout;
+    }
+}
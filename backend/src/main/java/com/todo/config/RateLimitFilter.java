@@ -0,0 +1,215 @@
+package com.todo.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.exception.GlobalExceptionHandler;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 요청 속도 제한 필터 (JwtAuthenticationFilter 앞)
+ *
+ * - POST /api/auth/login, /api/auth/signup: 클라이언트 IP 버킷 + 계정(email) 버킷
+ *   (비밀번호 해시 비용이 큰 경로라 컨트롤러에 닿기 전에 막는다)
+ * - /api/todos/**: 회원 버킷 (토큰이 없거나 유효하지 않으면 IP 기준)
+ *
+ * 한 요청의 버킷은 RateLimiter 호출 한 번(Redis 왕복 1회)으로 함께 검사하고,
+ * 초과하면 429와 Retry-After(초)로 응답한다.
+ * 클라이언트 IP는 request.getRemoteAddr() 기준이므로, 프록시 뒤에서는 server.forward-headers-strategy를 설정해야 한다.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * 인증 요청 본문 최대 크기 (계정 키를 읽기 위해 메모리에 담으므로 제한)
+     */
+    static final int MAX_AUTH_BODY_BYTES = 16 * 1024;
+
+    private final RateLimiter rateLimiter;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final RateLimitProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || (!isAuthRequest(request) && !isTodoRequest(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        List<RateLimiter.Limit> limits = new ArrayList<>(2);
+        HttpServletRequest target = request;
+
+        if (isAuthRequest(request)) {
+            byte[] body = request.getInputStream().readNBytes(MAX_AUTH_BODY_BYTES + 1);
+            if (body.length > MAX_AUTH_BODY_BYTES) {
+                writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다.");
+                return;
+            }
+            target = new CachedBodyRequest(request, body);
+            limits.add(new RateLimiter.Limit("auth-ip:" + request.getRemoteAddr(), properties.getAuthIpCapacity()));
+            String account = readAccount(body);
+            if (account != null) {
+                limits.add(new RateLimiter.Limit("auth-account:" + account, properties.getAuthAccountCapacity()));
+            }
+        } else {
+            limits.add(new RateLimiter.Limit(todoKey(request), properties.getTodoMemberCapacity()));
+        }
+
+        long waitMillis = rateLimiter.tryAcquire(limits);
+        if (waitMillis > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitMillis + 999) / 1000)));
+            writeError(response, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+        filterChain.doFilter(target, response);
+    }
+
+    private boolean isAuthRequest(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return "POST".equals(request.getMethod())
+                && (uri.equals("/api/auth/login") || uri.equals("/api/auth/signup"));
+    }
+
+    private boolean isTodoRequest(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.equals("/api/todos") || uri.startsWith("/api/todos/");
+    }
+
+    /**
+     * 본문의 email (소문자), 읽을 수 없으면 null (검증 오류는 컨트롤러에서)
+     */
+    private String readAccount(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() && StringUtils.hasText(email.asText())
+                    ? email.asText().strip().toLowerCase(Locale.ROOT)
+                    : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 회원 키 (검증한 Authentication은 요청 속성으로 넘겨 JwtAuthenticationFilter에서 다시 검증하지 않음)
+     */
+    private String todoKey(HttpServletRequest request) {
+        String bearer = request.getHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER);
+        if (StringUtils.hasText(bearer) && bearer.startsWith(JwtAuthenticationFilter.BEARER_PREFIX)) {
+            Authentication authentication = jwtTokenProvider.authenticate(
+                    bearer.substring(JwtAuthenticationFilter.BEARER_PREFIX.length()));
+            if (authentication != null) {
+                request.setAttribute(JwtAuthenticationFilter.VERIFIED_AUTHENTICATION_ATTRIBUTE, authentication);
+            }
+            if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal principal
+                    && principal.getId() != null) {
+                return "todo-member:" + principal.getId();
+            }
+        }
+        return "todo-ip:" + request.getRemoteAddr();
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        GlobalExceptionHandler.ErrorResponse errorResponse = new GlobalExceptionHandler.ErrorResponse(
+                status.value(), message, null, LocalDateTime.now());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), errorResponse);
+    }
+
+    /**
+     * 필터에서 읽은 본문을 컨트롤러가 다시 읽을 수 있도록 보관
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문이 이미 메모리에 있으므로 바로 읽을 수 있음을 알림
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.todo.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 요청 속도 제한(토큰 버킷) 설정
+ *
+ * 버킷마다 capacity개까지 모아 두고, refillPeriod 동안 capacity개가 다시 채워진다.
+ */
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private final boolean enabled;
+
+    /**
+     * false면 Redis 없이 노드 메모리 버킷만 사용 (노드마다 따로 센다)
+     */
+    private final boolean redis;
+
+    @NotBlank
+    private final String keyPrefix;
+
+    @NotNull
+    private final Duration refillPeriod;
+
+    /**
+     * 로그인/회원가입: 클라이언트 IP별 버킷 크기
+     */
+    @Min(1)
+    private final int authIpCapacity;
+
+    /**
+     * 로그인/회원가입: 계정(email)별 버킷 크기
+     */
+    @Min(1)
+    private final int authAccountCapacity;
+
+    /**
+     * /api/todos/**: 회원별 버킷 크기
+     */
+    @Min(1)
+    private final int todoMemberCapacity;
+
+    /**
+     * Redis 호출이 실패하면 이 시간 동안 Redis를 건너뛰고 메모리 버킷 사용
+     */
+    @NotNull
+    private final Duration redisRetryInterval;
+
+    /**
+     * 메모리 버킷 최대 개수
+     */
+    @Min(1)
+    private final long localMaxBuckets;
+
+    public RateLimitProperties(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("true") boolean redis,
+            @DefaultValue("rate:") String keyPrefix,
+            @DefaultValue("1m") Duration refillPeriod,
+            @DefaultValue("20") int authIpCapacity,
+            @DefaultValue("5") int authAccountCapacity,
+            @DefaultValue("300") int todoMemberCapacity,
+            @DefaultValue("5s") Duration redisRetryInterval,
+            @DefaultValue("100000") long localMaxBuckets
+    ) {
+        this.enabled = enabled;
+        this.redis = redis;
+        this.keyPrefix = keyPrefix;
+        this.refillPeriod = refillPeriod;
+        this.authIpCapacity = authIpCapacity;
+        this.authAccountCapacity = authAccountCapacity;
+        this.todoMemberCapacity = todoMemberCapacity;
+        this.redisRetryInterval = redisRetryInterval;
+        this.localMaxBuckets = localMaxBuckets;
+    }
+}
@@ -0,0 +1,176 @@
+package com.todo.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 버킷 속도 제한
+ *
+ * - 한 요청에 걸리는 버킷(IP, 계정, 회원 ...)을 Lua 스크립트 한 번으로 함께 검사/차감 (Redis 왕복 1회)
+ * - 버킷 중 하나라도 비어 있으면 아무것도 차감하지 않고 가장 긴 대기 시간을 돌려준다
+ * - 시각은 Redis TIME을 사용하므로 노드 간 시계 차이의 영향을 받지 않음
+ * - Redis 장애 시 redisRetryInterval 동안 노드 메모리 버킷으로 대체 (요청 실패로 이어지지 않음)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    /**
+     * 버킷 상태: t(남은 토큰, 소수), ts(마지막 갱신 시각 ms)
+     * KEYS: 버킷 키, ARGV[1]: 채움 주기(ms), ARGV[2..]: 키별 용량
+     *
+     * @return 0이면 허용(모든 버킷에서 1개씩 차감), 아니면 다시 시도할 수 있을 때까지의 ms
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local period = tonumber(ARGV[1])
+            local tokens = {}
+            local wait = 0
+            for i, key in ipairs(KEYS) do
+              local capacity = tonumber(ARGV[i + 1])
+              local state = redis.call('HMGET', key, 't', 'ts')
+              local available = tonumber(state[1]) or capacity
+              local elapsed = math.max(0, now - (tonumber(state[2]) or now))
+              available = math.min(capacity, available + elapsed * capacity / period)
+              tokens[i] = available
+              if available < 1 then
+                wait = math.max(wait, math.ceil((1 - available) * period / capacity))
+              end
+            end
+            if wait > 0 then return wait end
+            for i, key in ipairs(KEYS) do
+              redis.call('HSET', key, 't', tostring(tokens[i] - 1), 'ts', now)
+              redis.call('PEXPIRE', key, period)
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final long periodMillis;
+    private final Cache<String, LocalBucket> localBuckets;
+
+    /**
+     * 이 시각(System.nanoTime) 전까지는 Redis를 건너뜀
+     */
+    private volatile long redisRetryAt;
+
+    private final Counter fallbacks;
+    private final Counter redisErrors;
+
+    public RateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.periodMillis = Math.max(1, properties.getRefillPeriod().toMillis());
+        this.localBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getRefillPeriod())
+                .maximumSize(properties.getLocalMaxBuckets())
+                .build();
+        this.fallbacks = Counter.builder("rate.limit.fallback")
+                .description("Redis 대신 메모리 버킷으로 판단한 요청 수")
+                .register(meterRegistry);
+        this.redisErrors = Counter.builder("rate.limit.redis.errors").register(meterRegistry);
+        this.redisRetryAt = System.nanoTime();
+    }
+
+    /**
+     * 모든 버킷에서 토큰 1개씩 차감 시도
+     *
+     * @return 0이면 허용, 아니면 다시 시도할 수 있을 때까지의 ms
+     */
+    public long tryAcquire(List<Limit> limits) {
+        if (limits.isEmpty()) {
+            return 0;
+        }
+        if (properties.isRedis() && System.nanoTime() - redisRetryAt >= 0) {
+            try {
+                return acquireRedis(limits);
+            } catch (RuntimeException e) {
+                redisErrors.increment();
+                redisRetryAt = System.nanoTime() + properties.getRedisRetryInterval().toNanos();
+                log.warn("속도 제한 Redis 호출 실패, {} 동안 메모리 버킷 사용: {}",
+                        properties.getRedisRetryInterval(), e.getMessage());
+            }
+        }
+        if (properties.isRedis()) {
+            fallbacks.increment();
+        }
+        return acquireLocal(limits);
+    }
+
+    private long acquireRedis(List<Limit> limits) {
+        List<String> keys = new ArrayList<>(limits.size());
+        Object[] args = new Object[limits.size() + 1];
+        args[0] = String.valueOf(periodMillis);
+        for (int i = 0; i < limits.size(); i++) {
+            keys.add(properties.getKeyPrefix() + limits.get(i).key());
+            args[i + 1] = String.valueOf(limits.get(i).capacity());
+        }
+        Long wait = redisTemplate.execute(ACQUIRE_SCRIPT, keys, args);
+        return wait != null ? wait : 0;
+    }
+
+    /**
+     * 메모리 버킷 (Redis 스크립트와 같은 규칙, 노드 안에서만 유효)
+     * 버킷별로 잠그므로 여러 버킷을 함께 검사/차감하는 사이에 다른 요청이 끼어들 수 있다 (대체 경로라 허용).
+     */
+    private long acquireLocal(List<Limit> limits) {
+        long now = System.nanoTime();
+        List<LocalBucket> buckets = new ArrayList<>(limits.size());
+        long wait = 0;
+        for (Limit limit : limits) {
+            LocalBucket bucket = localBuckets.get(limit.key(), key -> new LocalBucket(limit.capacity(), now));
+            buckets.add(bucket);
+            wait = Math.max(wait, bucket.waitMillis(now, periodMillis));
+        }
+        if (wait > 0) {
+            return wait;
+        }
+        for (LocalBucket bucket : buckets) {
+            bucket.take();
+        }
+        return 0;
+    }
+
+    /**
+     * @param key      버킷 키 (접두어 제외, 예: auth-ip:10.0.0.1)
+     * @param capacity 버킷 크기 (refillPeriod 동안 채워지는 토큰 수)
+     */
+    public record Limit(String key, int capacity) {
+    }
+
+    private static final class LocalBucket {
+
+        private final int capacity;
+        private double tokens;
+        private long updatedAt;
+
+        private LocalBucket(int capacity, long now) {
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.updatedAt = now;
+        }
+
+        synchronized long waitMillis(long now, long periodMillis) {
+            double elapsedMillis = Math.max(0, now - updatedAt) / 1_000_000.0;
+            tokens = Math.min(capacity, tokens + elapsedMillis * capacity / periodMillis);
+            updatedAt = Math.max(updatedAt, now);
+            return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * periodMillis / capacity);
+        }
+
+        synchronized void take() {
+            tokens -= 1;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.todo.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 복제본(replica) 설정
+ *
+ * primary는 기존 spring.datasource(+ spring.datasource.hikari)를 그대로 사용한다.
+ */
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "app.datasource")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * 복제본 풀 목록 (비어 있으면 라우팅 없이 primary 하나만 사용)
+     * 항목마다 Hikari 설정을 따로 지정 (jdbc-url, username, password, maximum-pool-size, pool-name ...)
+     */
+    private final List<HikariConfig> replicas;
+
+    /**
+     * 변경 후 같은 회원의 읽기를 primary로 보내는 시간 (복제 지연보다 길게)
+     */
+    @NotNull
+    private final Duration readYourWritesWindow;
+
+    /**
+     * 읽기 고정 중인 회원을 기억하는 최대 수
+     */
+    @Min(1)
+    private final int readYourWritesMaxMembers;
+
+    public ReplicaDataSourceProperties(
+            @DefaultValue List<HikariConfig> replicas,
+            @DefaultValue("5s") Duration readYourWritesWindow,
+            @DefaultValue("100000") int readYourWritesMaxMembers
+    ) {
+        this.replicas = replicas;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.readYourWritesMaxMembers = readYourWritesMaxMembers;
+    }
+}
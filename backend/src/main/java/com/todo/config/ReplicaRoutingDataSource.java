@@ -0,0 +1,149 @@
+package com.todo.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션은 복제본으로, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 primary로 보내는 DataSource
+ *
+ * - 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy로 감싸
+ *   첫 쿼리 시점에 대상을 고른다
+ * - 복제본이 여러 개면 순서대로 돌아가며 사용
+ * - read-your-writes: 회원의 쓰기 트랜잭션이 커밋되면 window 동안 그 회원의 읽기도 primary로 보낸다
+ *   (고정 정보는 노드 로컬이므로 다른 노드로 간 요청은 복제 지연만큼 이전 값을 볼 수 있음)
+ * - 공유 캐시를 채우는 조회처럼 이전 값을 보면 안 되는 읽기는 readFromPrimary로 감싸 primary에서 읽고,
+ *   이미 복제본 커넥션을 잡은 트랜잭션인지는 isReadingFromReplica로 확인한다
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    /**
+     * 복제본 커넥션을 잡은 트랜잭션에 바인딩하는 리소스 키
+     */
+    private static final Object REPLICA_READ = new Object();
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final List<String> replicaKeys;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * 최근 쓰기한 회원 id (window가 지나면 자동 제거)
+     */
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    Duration readYourWritesWindow, long maxTrackedMembers) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicaKeys = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + (i + 1);
+            targets.put(key, replicas.get(i));
+            replicaKeys.add(key);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(maxTrackedMembers)
+                .build();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long member = currentMember();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !replicaKeys.isEmpty()
+                && FORCE_PRIMARY.get() == null
+                && (member == null || recentWriters.getIfPresent(member) == null)) {
+            markReplicaRead();
+            return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+        }
+        if (member != null && TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite(member);
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * 쓰기 트랜잭션의 회원을 지금과 커밋 직후에 기록 (window는 커밋 시점부터)
+     */
+    private void recordWrite(Long member) {
+        recentWriters.put(member, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(member, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    /**
+     * action 안에서 처음 커넥션을 잡는 읽기는 primary로 보낸다
+     * (트랜잭션이 이미 커넥션을 잡았다면 그 커넥션을 그대로 쓰므로 isReadingFromReplica로 확인)
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            }
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 복제본 커넥션으로 읽었는지 (복제 지연만큼 이전 값일 수 있음)
+     */
+    public static boolean isReadingFromReplica() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_READ);
+    }
+
+    /**
+     * 트랜잭션이 끝나면 해제
+     */
+    private static void markReplicaRead() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(REPLICA_READ)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_READ, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ);
+            }
+        });
+    }
+
+    /**
+     * 현재 회원 id (JWT 인증이 아니면 null, 이메일 같은 인증 이름은 바뀔 수 있으므로 키로 쓰지 않음)
+     */
+    private static Long currentMember() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.todo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 (@Scheduled 백그라운드 작업용)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,31 @@
+package com.todo.config;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Todo 목록 Redis 캐시 설정
+ */
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "app.todo-cache")
+public class TodoCacheProperties {
+
+    private final boolean enabled;
+
+    @NotNull
+    private final Duration ttl;
+
+    public TodoCacheProperties(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("10m") Duration ttl
+    ) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+    }
+}
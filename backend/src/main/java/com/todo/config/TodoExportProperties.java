@@ -0,0 +1,27 @@
+package com.todo.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Todo 내보내기 설정
+ */
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "app.todo-export")
+public class TodoExportProperties {
+
+    /**
+     * 노드당 동시 내보내기 수 (초과 시 503)
+     * 내보내기는 다운로드가 끝날 때까지 DB 커넥션 하나를 붙잡으므로 커넥션 풀 크기보다 충분히 작게 둔다
+     */
+    @Min(1)
+    private final int maxConcurrent;
+
+    public TodoExportProperties(@DefaultValue("3") int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+}
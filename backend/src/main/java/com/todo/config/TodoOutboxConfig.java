@@ -0,0 +1,30 @@
+package com.todo.config;
+
+import com.todo.service.InMemoryTodoEventSink;
+import com.todo.service.RedisStreamTodoEventSink;
+import com.todo.service.TodoEventSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * outbox 발행 대상 선택 (app.todo-outbox.sink)
+ * - redis(기본): Redis Stream
+ * - memory: 현재 노드 메모리 (테스트/로컬)
+ */
+@Configuration
+public class TodoOutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.todo-outbox", name = "sink", havingValue = "redis", matchIfMissing = true)
+    public TodoEventSink redisStreamTodoEventSink(StringRedisTemplate redisTemplate, TodoOutboxProperties properties) {
+        return new RedisStreamTodoEventSink(redisTemplate, properties.getStreamKey(), properties.getStreamMaxLength());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.todo-outbox", name = "sink", havingValue = "memory")
+    public InMemoryTodoEventSink inMemoryTodoEventSink() {
+        return new InMemoryTodoEventSink();
+    }
+}
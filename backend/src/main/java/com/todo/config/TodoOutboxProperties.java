@@ -0,0 +1,73 @@
+package com.todo.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Todo 변경 이벤트 outbox 설정
+ */
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "app.todo-outbox")
+public class TodoOutboxProperties {
+
+    /**
+     * false면 outbox에 기록하지 않고 발행 작업도 돌지 않음
+     */
+    private final boolean enabled;
+
+    /**
+     * 발행 대상: redis(Redis Stream) 또는 memory(현재 노드 메모리, 테스트용)
+     */
+    @NotBlank
+    private final String sink;
+
+    /**
+     * 한 번에 꺼내 발행하는 행 수
+     */
+    @Min(1)
+    private final int batchSize;
+
+    /**
+     * 한 주기에 처리하는 최대 배치 수 (밀린 경우에도 한 주기가 너무 길어지지 않게)
+     */
+    @Min(1)
+    private final int maxBatchesPerRun;
+
+    @NotNull
+    private final Duration pollInterval;
+
+    @NotBlank
+    private final String streamKey;
+
+    /**
+     * Redis Stream 최대 길이 (근사 trim)
+     */
+    @Min(1)
+    private final long streamMaxLength;
+
+    public TodoOutboxProperties(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("redis") String sink,
+            @DefaultValue("500") int batchSize,
+            @DefaultValue("20") int maxBatchesPerRun,
+            @DefaultValue("1s") Duration pollInterval,
+            @DefaultValue("todo:events:stream") String streamKey,
+            @DefaultValue("1000000") long streamMaxLength
+    ) {
+        this.enabled = enabled;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pollInterval = pollInterval;
+        this.streamKey = streamKey;
+        this.streamMaxLength = streamMaxLength;
+    }
+}
@@ -0,0 +1,29 @@
+package com.todo.config;
+
+import com.todo.service.TodoEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Todo 변경 이벤트 Redis 구독 (노드 간 전달)
+ *
+ * 채널 하나를 구독하고, 메시지는 이 노드에 연결이 있는 회원에게만 전달된다.
+ * app.todo-stream.redis-fanout=false면 구독하지 않고 노드 내부에서만 전달한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.todo-stream", name = "redis-fanout", havingValue = "true", matchIfMissing = true)
+public class TodoStreamConfig {
+
+    @Bean
+    public RedisMessageListenerContainer todoEventListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    TodoEventPublisher publisher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(publisher, new ChannelTopic(TodoEventPublisher.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,89 @@
+package com.todo.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Todo 변경 스트림(SSE) 설정
+ */
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "app.todo-stream")
+public class TodoStreamProperties {
+
+    /**
+     * true면 Redis pub/sub으로 모든 노드에 전달, false면 현재 노드의 연결에만 전달 (단일 노드/테스트)
+     */
+    private final boolean redisFanout;
+
+    /**
+     * 노드당 최대 동시 연결 수 (초과 시 503)
+     */
+    @Min(1)
+    private final int maxConnections;
+
+    /**
+     * 회원당 최대 동시 연결 수 (초과 시 가장 오래된 연결 종료)
+     */
+    @Min(1)
+    private final int maxConnectionsPerMember;
+
+    /**
+     * 연결별 미전송 이벤트 한도 (초과하면 느린 클라이언트로 보고 연결 종료, 재연결 후 재조회)
+     */
+    @Min(1)
+    private final int sendQueueSize;
+
+    /**
+     * 이벤트 전송 스레드 수
+     */
+    @Min(1)
+    private final int senderThreads;
+
+    /**
+     * 이벤트 한 건의 쓰기 한도 (소켓 버퍼가 찬 클라이언트는 이 시간 뒤 연결 종료, 전송 스레드는 다음 연결로 넘어감)
+     */
+    @NotNull
+    private final Duration sendTimeout;
+
+    /**
+     * sendTimeout을 넘겨 멈춘 채 남아 있을 수 있는 쓰기 스레드 수 (쓰기 스레드 최대 = senderThreads + 이 값,
+     * 모두 찬 상태에서는 새 쓰기를 맡기지 못한 연결을 바로 종료)
+     */
+    @Min(0)
+    private final int maxStalledWrites;
+
+    @NotNull
+    private final Duration heartbeat;
+
+    @NotNull
+    private final Duration timeout;
+
+    public TodoStreamProperties(
+            @DefaultValue("true") boolean redisFanout,
+            @DefaultValue("20000") int maxConnections,
+            @DefaultValue("5") int maxConnectionsPerMember,
+            @DefaultValue("32") int sendQueueSize,
+            @DefaultValue("4") int senderThreads,
+            @DefaultValue("2s") Duration sendTimeout,
+            @DefaultValue("64") int maxStalledWrites,
+            @DefaultValue("15s") Duration heartbeat,
+            @DefaultValue("30m") Duration timeout
+    ) {
+        this.redisFanout = redisFanout;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerMember = maxConnectionsPerMember;
+        this.sendQueueSize = sendQueueSize;
+        this.senderThreads = senderThreads;
+        this.sendTimeout = sendTimeout;
+        this.maxStalledWrites = maxStalledWrites;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,60 @@
+package com.todo.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Todo 휴지통(soft delete) 설정
+ */
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "app.todo-trash")
+public class TodoTrashProperties {
+
+    /**
+     * 휴지통 보관 기간 (이 기간 안에서만 조회/복원, 지나면 정리 대상)
+     */
+    @NotNull
+    private final Duration retention;
+
+    /**
+     * 정리 작업이 한 트랜잭션에서 지우는 최대 행 수
+     */
+    @Min(1)
+    private final int batchSize;
+
+    /**
+     * 배치 사이 대기 시간 (정리 작업이 DB 쓰기/복제 대역을 독점하지 않도록)
+     */
+    @NotNull
+    private final Duration batchPause;
+
+    /**
+     * 한 주기에 처리하는 최대 배치 수
+     */
+    @Min(1)
+    private final int maxBatchesPerRun;
+
+    @NotNull
+    private final Duration purgeInterval;
+
+    public TodoTrashProperties(
+            @DefaultValue("7d") Duration retention,
+            @DefaultValue("500") int batchSize,
+            @DefaultValue("100ms") Duration batchPause,
+            @DefaultValue("100") int maxBatchesPerRun,
+            @DefaultValue("1m") Duration purgeInterval
+    ) {
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.purgeInterval = purgeInterval;
+    }
+}
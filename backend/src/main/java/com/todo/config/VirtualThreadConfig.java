@@ -0,0 +1,82 @@
+package com.todo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 실행 모드 안전장치 (virtual 프로파일, Java 21 이상)
+ *
+ * spring.threads.virtual.enabled=true면 Spring Boot가 Tomcat 요청 처리와
+ * @Async/@Scheduled 실행기를 가상 스레드로 바꾼다. 여기서는 그 모드에 필요한 검사만 추가한다.
+ * - Java 21 미만이면 Boot가 조용히 플랫폼 스레드로 동작하므로 시작을 실패시킨다
+ * - synchronized 안에서 소켓 I/O를 하는 JDBC 드라이버는 캐리어 스레드를 고정(pinning)시키므로
+ *   드라이버 버전을 확인한다 (pgjdbc는 42.6.0부터 ReentrantLock 사용)
+ * - 실행 중 발생한 고정은 VirtualThreadPinningMonitor가 메트릭/로그로 남긴다
+ *
+ * DB 동시 접근은 가상 스레드 수가 아니라 Hikari 풀 크기로 제한되므로 풀 크기는 두 모드가 같다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    static final int MIN_JAVA_VERSION = 21;
+
+    private static final String PGJDBC_DRIVER_NAME = "PostgreSQL JDBC Driver";
+
+    @Bean(destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            DataSource dataSource,
+            @Value("${app.virtual-threads.pinned-threshold:20ms}") Duration pinnedThreshold) {
+        requireJavaVersion(Runtime.version().feature());
+        requirePinningSafeDriver(dataSource);
+
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, pinnedThreshold);
+        monitor.start();
+        log.info("가상 스레드 모드로 실행: pinnedThreshold={}", pinnedThreshold);
+        return monitor;
+    }
+
+    static void requireJavaVersion(int feature) {
+        if (feature < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("가상 스레드 모드는 Java " + MIN_JAVA_VERSION
+                    + " 이상이 필요합니다 (현재 " + feature + "). virtual 프로파일을 끄거나 JDK를 올려주세요.");
+        }
+    }
+
+    private static void requirePinningSafeDriver(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            requirePinningSafeDriver(metaData.getDriverName(),
+                    metaData.getDriverMajorVersion(), metaData.getDriverMinorVersion());
+        } catch (SQLException e) {
+            throw new IllegalStateException("JDBC 드라이버 정보를 확인할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * pgjdbc 42.6.0 미만은 쿼리 실행/결과 수신을 synchronized로 감싸므로 가상 스레드가 DB 응답을
+     * 기다리는 동안 캐리어 스레드가 묶인다. 그 외 드라이버(H2 등 테스트용)는 검사하지 않는다.
+     */
+    static void requirePinningSafeDriver(String driverName, int major, int minor) {
+        if (!PGJDBC_DRIVER_NAME.equals(driverName)) {
+            log.debug("고정 검사 대상이 아닌 JDBC 드라이버: {} {}.{}", driverName, major, minor);
+            return;
+        }
+        if (major < 42 || (major == 42 && minor < 6)) {
+            throw new IllegalStateException("가상 스레드 모드에서는 pgjdbc 42.6.0 이상이 필요합니다 (현재 "
+                    + major + "." + minor + ").");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.todo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감시
+ *
+ * JFR jdk.VirtualThreadPinned 이벤트(threshold 이상 고정된 경우)를 구독하여
+ * jvm.threads.virtual.pinned 카운터를 올리고, 처음 보는 호출 위치는 스택과 함께 경고 로그를 남긴다.
+ * 호출 위치는 MAX_REPORTED_SITES개까지만 기억하여 로그와 메모리가 늘어나지 않게 한다.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int MAX_REPORTED_SITES = 100;
+    private static final int REPORTED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.threshold = threshold;
+        this.pinned = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinned.increment();
+        String frames = topFrames(event.getStackTrace());
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(frames)) {
+            log.warn("가상 스레드 고정 감지 ({}ms):\n{}", event.getDuration().toMillis(), frames);
+        }
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "(no stack trace)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(REPORTED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    public double getPinnedCount() {
+        return pinned.count();
+    }
+
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
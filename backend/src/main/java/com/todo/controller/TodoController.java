@@ -1,14 +1,33 @@
 package com.todo.controller;
 
+import com.todo.dto.TodoBatchRequest;
+import com.todo.dto.TodoFileFormat;
+import com.todo.dto.TodoImportResponse;
+import com.todo.dto.TodoMoveRequest;
+import com.todo.dto.TodoPageResponse;
 import com.todo.dto.TodoRequest;
 import com.todo.dto.TodoResponse;
+import com.todo.dto.TodoSearchResponse;
 import com.todo.service.TodoService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -26,6 +45,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TodoController {
 
+    /**
+     * 목록/통계 응답은 브라우저에 저장하되 매번 If-None-Match로 재검증
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TodoService todoService;
 
     /**
@@ -33,12 +57,103 @@ public class TodoController {
      * GET /api/todos
      * GET /api/todos?filter=active
      * GET /api/todos?filter=completed
+     *
+     * ETag(회원별 변경 버전)가 If-None-Match와 같으면 304 응답
      */
     @GetMapping
     public ResponseEntity<List<TodoResponse>> getAll(
-            @RequestParam(required = false, defaultValue = "all") String filter) {
+            @RequestParam(required = false, defaultValue = "all") String filter,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(todoService.getVersionTag())) {
+            return null; // 304 Not Modified (목록 조회/직렬화 생략)
+        }
         List<TodoResponse> todos = todoService.findByFilter(filter);
-        return ResponseEntity.ok(todos);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(todos);
+    }
+
+    /**
+     * 커서 기반 페이지 조회 (limit 파라미터가 있을 때만 사용, 기존 클라이언트는 위 getAll 유지)
+     * GET /api/todos?limit=50
+     * GET /api/todos?filter=active&limit=50&after={nextCursor}
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<TodoPageResponse> getPage(
+            @RequestParam(required = false, defaultValue = "all") String filter,
+            @RequestParam int limit,
+            @RequestParam(required = false) String after) {
+        return ResponseEntity.ok(todoService.findPage(filter, limit, after));
+    }
+
+    /**
+     * 전체 Todo 내보내기 (파일 다운로드)
+     * GET /api/todos/export?format=ndjson
+     * GET /api/todos/export?format=csv
+     *
+     * 목록을 메모리에 만들지 않고 DB 커서에서 읽는 대로 응답에 쓴다.
+     * 클라이언트가 gzip을 받으면 쓰면서 압축한다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false, defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        TodoFileFormat exportFormat = TodoFileFormat.from(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("todos." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(todoService.export(exportFormat, gzip));
+    }
+
+    /**
+     * Todo 가져오기 (맨 뒤에 추가)
+     * POST /api/todos/import  (Content-Type: application/x-ndjson 또는 text/csv)
+     *
+     * 본문을 한 행씩 읽으며 적재하고, 받아들인/거부한 행 수와 거부 사유를 반환한다.
+     * 행 단위 검증 실패는 거부로 집계하고 나머지는 계속 가져온다.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<TodoImportResponse> importTodos(HttpServletRequest request) throws IOException {
+        MediaType contentType = request.getContentType() != null
+                ? MediaType.parseMediaType(request.getContentType()) : null;
+        TodoFileFormat format = TodoFileFormat.fromContentType(contentType);
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+
+        try (Reader body = new InputStreamReader(request.getInputStream(), charset)) {
+            return ResponseEntity.ok(todoService.importTodos(format, body));
+        }
+    }
+
+    /**
+     * 본문 검색 (관련도순, offset 페이지)
+     * GET /api/todos/search?q=우유
+     * GET /api/todos/search?q=우유&limit=20&offset={nextOffset}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TodoSearchResponse> search(
+            @RequestParam String q,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestParam(required = false, defaultValue = "0") int offset) {
+        return ResponseEntity.ok(todoService.search(q, limit, offset));
+    }
+
+    /**
+     * 변경 스트림 (Server-Sent Events)
+     * GET /api/todos/stream
+     *
+     * 이 회원의 Todo가 바뀔 때마다 (어느 노드, 어느 탭에서든) created/updated/toggled/moved/deleted/invalidated
+     * 이벤트와 통계 증감값을 보내므로, 클라이언트는 변경 후 목록/통계를 다시 조회할 필요가 없다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return todoService.openStream();
     }
 
     /**
@@ -65,6 +180,17 @@ public class TodoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * Todo 일괄 생성
+     * POST /api/todos/batch
+     * Body: { "items": [ { "text": "할 일 1" }, { "text": "할 일 2", "completed": true } ] }
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<TodoResponse>> createAll(@Valid @RequestBody TodoBatchRequest request) {
+        List<TodoResponse> created = todoService.createAll(request.getItems());
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
     /**
      * Todo 수정
      * PUT /api/todos/{id}
@@ -78,6 +204,17 @@ public class TodoController {
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * Todo 순서 이동 (드래그앤드롭 1회 = 요청 1회)
+     * PATCH /api/todos/order
+     * Body: { "id": 3, "beforeId": 7 } 또는 { "id": 3, "afterId": 7 }
+     */
+    @PatchMapping("/order")
+    public ResponseEntity<TodoResponse> move(@Valid @RequestBody TodoMoveRequest request) {
+        TodoResponse moved = todoService.move(request);
+        return ResponseEntity.ok(moved);
+    }
+
     /**
      * Todo 완료 상태 토글
      * PATCH /api/todos/{id}/toggle
@@ -108,12 +245,35 @@ public class TodoController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 휴지통 조회 (일괄 삭제한 완료 항목 중 보관 기간 안의 것)
+     * GET /api/todos/trash?limit=100
+     */
+    @GetMapping("/trash")
+    public ResponseEntity<List<TodoResponse>> getTrash(
+            @RequestParam(required = false, defaultValue = "100") int limit) {
+        return ResponseEntity.ok(todoService.findTrash(limit));
+    }
+
+    /**
+     * 휴지통 전체 복원
+     * POST /api/todos/trash/restore
+     */
+    @PostMapping("/trash/restore")
+    public ResponseEntity<Void> restoreTrash() {
+        todoService.restoreTrash();
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * 통계 조회
-     * GET /api/todos/stats
+     * GET /api/todos/stats (목록과 같은 ETag 사용)
      */
     @GetMapping("/stats")
-    public ResponseEntity<TodoService.TodoStats> getStats() {
-        return ResponseEntity.ok(todoService.getStats());
+    public ResponseEntity<TodoService.TodoStats> getStats(WebRequest webRequest) {
+        if (webRequest.checkNotModified(todoService.getVersionTag())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(todoService.getStats());
     }
 }
@@ -0,0 +1,29 @@
+package com.todo.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Todo 일괄 생성 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TodoBatchRequest {
+
+    public static final int MAX_ITEMS = 1000;
+
+    @NotEmpty(message = "생성할 할 일이 없습니다")
+    @Size(max = MAX_ITEMS, message = "한 번에 최대 1000개까지 생성할 수 있습니다")
+    private List<@Valid TodoRequest> items;
+
+    public TodoBatchRequest(List<TodoRequest> items) {
+        this.items = items;
+    }
+}
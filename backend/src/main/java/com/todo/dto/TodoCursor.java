@@ -0,0 +1,45 @@
+package com.todo.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(Keyset) 페이지네이션 위치
+ *
+ * 정렬 키 (displayOrder ASC, createdAt DESC, id DESC)의 마지막 값을 담는다.
+ * 클라이언트에는 Base64URL로 인코딩한 불투명(opaque) 토큰으로만 노출한다.
+ */
+public record TodoCursor(int displayOrder, LocalDateTime createdAt, long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static TodoCursor of(TodoResponse todo) {
+        return new TodoCursor(todo.getDisplayOrder(), todo.getCreatedAt(), todo.getId());
+    }
+
+    public String encode() {
+        String raw = displayOrder + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 → 커서 복원 (잘못된 토큰은 400 응답)
+     */
+    public static TodoCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new TodoCursor(
+                    Integer.parseInt(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
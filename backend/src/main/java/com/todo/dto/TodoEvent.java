@@ -0,0 +1,39 @@
+package com.todo.dto;
+
+/**
+ * Todo 변경 이벤트 (SSE로 전달)
+ *
+ * 클라이언트는 todo로 목록을 갱신하고 totalDelta/completedDelta로 통계를 갱신하므로
+ * 변경 후 목록/통계를 다시 조회하지 않아도 된다.
+ * invalidated는 여러 건이 한 번에 바뀐 경우로, 클라이언트가 목록을 다시 조회한다.
+ *
+ * @param type    created / updated / toggled / moved / deleted / invalidated
+ * @param todoId  대상 Todo ID (invalidated는 null)
+ * @param todo    변경 후 Todo (deleted/invalidated는 null)
+ */
+public record TodoEvent(String type, Long todoId, TodoResponse todo, long totalDelta, long completedDelta) {
+
+    public static TodoEvent created(TodoResponse todo) {
+        return new TodoEvent("created", todo.getId(), todo, 1, todo.getCompleted() ? 1 : 0);
+    }
+
+    public static TodoEvent updated(TodoResponse todo, long completedDelta) {
+        return new TodoEvent("updated", todo.getId(), todo, 0, completedDelta);
+    }
+
+    public static TodoEvent toggled(TodoResponse todo) {
+        return new TodoEvent("toggled", todo.getId(), todo, 0, todo.getCompleted() ? 1 : -1);
+    }
+
+    public static TodoEvent moved(TodoResponse todo) {
+        return new TodoEvent("moved", todo.getId(), todo, 0, 0);
+    }
+
+    public static TodoEvent deleted(Long todoId, boolean completed) {
+        return new TodoEvent("deleted", todoId, null, -1, completed ? -1 : 0);
+    }
+
+    public static TodoEvent invalidated(long totalDelta, long completedDelta) {
+        return new TodoEvent("invalidated", null, null, totalDelta, completedDelta);
+    }
+}
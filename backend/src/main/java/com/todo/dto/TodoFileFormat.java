@@ -0,0 +1,49 @@
+package com.todo.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * 내보내기/가져오기 파일 형식
+ * - 내보내기: GET /api/todos/export?format=
+ * - 가져오기: POST /api/todos/import (Content-Type으로 판단)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TodoFileFormat {
+
+    /**
+     * 한 줄에 TodoResponse JSON 하나
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * 헤더 한 줄 + 행마다 한 줄 (RFC 4180 따옴표 규칙)
+     */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static TodoFileFormat from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    public static TodoFileFormat fromContentType(MediaType contentType) {
+        if (contentType != null) {
+            for (TodoFileFormat format : values()) {
+                if (MediaType.parseMediaType(format.contentType).isCompatibleWith(contentType)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("application/x-ndjson 또는 text/csv 본문만 가져올 수 있습니다.");
+    }
+}
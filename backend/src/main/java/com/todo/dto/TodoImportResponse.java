@@ -0,0 +1,26 @@
+package com.todo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 가져오기 결과 DTO
+ *
+ * errors: 거부된 행의 위치와 사유 (앞에서부터 최대 100건, 개수는 rejected로 전체 집계)
+ */
+@Getter
+@AllArgsConstructor
+public class TodoImportResponse {
+
+    private long accepted;
+    private long rejected;
+    private List<RowError> errors;
+
+    /**
+     * @param line 본문 기준 줄 번호 (1부터, CSV는 레코드가 시작하는 줄)
+     */
+    public record RowError(long line, String message) {
+    }
+}
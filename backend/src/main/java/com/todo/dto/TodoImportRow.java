@@ -0,0 +1,7 @@
+package com.todo.dto;
+
+/**
+ * 가져오기로 한 번에 넣을 Todo 한 행 (검증과 순서 값 할당이 끝난 상태)
+ */
+public record TodoImportRow(String text, boolean completed, int displayOrder) {
+}
@@ -0,0 +1,31 @@
+package com.todo.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Todo 순서 이동 요청 DTO
+ *
+ * id 항목을 beforeId 항목 바로 앞, 또는 afterId 항목 바로 뒤로 옮긴다.
+ * (beforeId/afterId 중 하나만 지정)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TodoMoveRequest {
+
+    @NotNull(message = "이동할 할 일 ID는 필수입니다")
+    private Long id;
+
+    private Long beforeId;
+
+    private Long afterId;
+
+    public TodoMoveRequest(Long id, Long beforeId, Long afterId) {
+        this.id = id;
+        this.beforeId = beforeId;
+        this.afterId = afterId;
+    }
+}
@@ -0,0 +1,12 @@
+package com.todo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox에서 꺼낸 이벤트 한 건
+ *
+ * @param payload TodoEvent JSON (변경 시점에 한 번 직렬화한 값 그대로)
+ */
+public record TodoOutboxEvent(long id, Long memberId, String type, Long todoId, String payload,
+                              LocalDateTime createdAt) {
+}
@@ -0,0 +1,20 @@
+package com.todo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 페이지 응답 DTO
+ *
+ * nextCursor: 다음 페이지 요청 시 after 파라미터로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class TodoPageResponse {
+
+    private List<TodoResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.todo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 결과 페이지 응답 DTO (관련도순)
+ *
+ * nextOffset: 다음 페이지 요청 시 offset 파라미터로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class TodoSearchResponse {
+
+    private List<TodoResponse> items;
+    private Integer nextOffset;
+    private boolean hasNext;
+}
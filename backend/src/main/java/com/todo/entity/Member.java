@@ -59,6 +59,11 @@ public class Member {
         this.providerId = providerId;
     }
 
+    // 비밀번호 해시 교체 (해시 형식/cost 변경 시 로그인 성공 후 다시 저장)
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     // OAuth 계정 연동
     public void linkOAuthAccount(Provider provider, String providerId) {
         this.provider = provider;
@@ -0,0 +1,67 @@
+package com.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 Todo 개수 카운터
+ *
+ * Todo 변경과 같은 트랜잭션에서 증감하여 통계 조회 시 count 쿼리를 실행하지 않는다.
+ * 값이 어긋나면 TodoCounterRepairJob이 todos 기준으로 다시 계산한다.
+ */
+@Entity
+@Table(name = "member_todo_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberTodoCounter {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "total_count", nullable = false)
+    private long total;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completed;
+
+    /**
+     * 변경 버전 (ETag 생성용, Todo 변경마다 증가)
+     * 카운터 행이 없는 상태를 0으로 보므로 새 행은 1부터 시작
+     */
+    @Column(name = "version", nullable = false)
+    private long version = 1;
+
+    /**
+     * 마지막으로 할당한 순서 값 (새 Todo는 이 값 + 간격, 카운터 UPDATE와 함께 증가)
+     */
+    @Column(name = "last_display_order", nullable = false)
+    private int lastDisplayOrder;
+
+    public MemberTodoCounter(Long memberId, long total, long completed) {
+        this(memberId, total, completed, 0);
+    }
+
+    public MemberTodoCounter(Long memberId, long total, long completed, int lastDisplayOrder) {
+        this.memberId = memberId;
+        this.total = total;
+        this.completed = completed;
+        this.lastDisplayOrder = lastDisplayOrder;
+    }
+
+    public long getActive() {
+        return total - completed;
+    }
+
+    /**
+     * 재계산 값으로 보정
+     */
+    public void reset(long total, long completed, int maxDisplayOrder) {
+        this.total = total;
+        this.completed = completed;
+        this.lastDisplayOrder = Math.max(this.lastDisplayOrder, maxDisplayOrder);
+        this.version++;
+    }
+}
@@ -1,34 +0,0 @@
-package com.todo.entity;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
-import org.springframework.data.redis.core.index.Indexed;
-
-import java.util.concurrent.TimeUnit;
-
-@Getter
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
-@RedisHash(value = "refreshToken")
-public class RefreshToken {
-
-    @Id
-    private String id; // memberId를 키로 사용
-
-    @Indexed
-    private String refreshToken;
-
-    @TimeToLive(unit = TimeUnit.MILLISECONDS)
-    private Long expiration;
-
-    public void updateToken(String newToken, Long expiration) {
-        this.refreshToken = newToken;
-        this.expiration = expiration;
-    }
-}
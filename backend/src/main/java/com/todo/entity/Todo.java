@@ -5,8 +5,10 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Todo 엔티티 (DB 테이블과 매핑)
@@ -15,9 +17,12 @@ import java.time.LocalDateTime;
  * @Table: 매핑할 테이블 이름 지정
  * @Getter: Lombok - 모든 필드의 getter 자동 생성
  * @NoArgsConstructor: Lombok - 기본 생성자 자동 생성 (JPA 필수)
+ * @SQLRestriction: 휴지통(deleted_at이 있는 행)은 엔티티/JPQL 조회에서 항상 제외
+ *                  (네이티브 쿼리는 TodoRepositoryImpl에서 직접 조건을 붙임)
  */
 @Entity
 @Table(name = "todos")
+@SQLRestriction("deleted_at is null")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Todo {
@@ -25,10 +30,12 @@ public class Todo {
     /**
      * 기본 키 (Primary Key)
      * 
-     * @GeneratedValue: 자동 증가 (PostgreSQL SERIAL)
+     * @GeneratedValue: 시퀀스 기반 (pooled 옵티마이저, 50개씩 미리 할당)
+     * - IDENTITY는 INSERT마다 즉시 실행되어 JDBC 배치가 꺼지므로 시퀀스 사용
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq_generator")
+    @SequenceGenerator(name = "todos_seq_generator", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -83,11 +90,12 @@ public class Todo {
 
     /**
      * 엔티티 저장 전 자동 실행 (생성 시간 설정)
+     * DB 타임스탬프 정밀도(마이크로초)에 맞춰 잘라 커서 비교 시 값이 어긋나지 않게 함
      */
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.createdAt = now();
+        this.updatedAt = this.createdAt;
     }
 
     /**
@@ -95,7 +103,11 @@ public class Todo {
      */
     @PreUpdate
     protected void onUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = now();
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     // === 비즈니스 메서드 (Setter 대신 의미있는 메서드 사용) ===
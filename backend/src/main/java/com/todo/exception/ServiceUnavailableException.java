@@ -0,0 +1,10 @@
+package com.todo.exception;
+
+/**
+ * 서버 자원(연결 수 등) 한도 초과로 지금은 처리할 수 없는 요청 (503)
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,86 @@
+package com.todo.repository;
+
+import com.todo.entity.MemberTodoCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberTodoCounterRepository extends JpaRepository<MemberTodoCounter, Long> {
+
+    /**
+     * 카운터 원자적 증감 + 변경 버전 증가 (UPDATE 한 번, 동시 요청에도 유실 없음)
+     *
+     * @return 변경된 행 수 (카운터 행이 없으면 0)
+     */
+    @Modifying
+    @Query("update MemberTodoCounter c set c.total = c.total + :totalDelta, "
+            + "c.completed = c.completed + :completedDelta, c.version = c.version + 1 "
+            + "where c.memberId = :memberId")
+    int increment(@Param("memberId") Long memberId,
+                  @Param("totalDelta") long totalDelta,
+                  @Param("completedDelta") long completedDelta);
+
+    /**
+     * 카운터 증감 + 순서 값 orderDelta만큼 예약 (UPDATE 한 번)
+     *
+     * 같은 회원의 동시 생성은 이 UPDATE의 행 잠금에서 직렬화되므로,
+     * 같은 트랜잭션에서 findLastDisplayOrder로 읽은 값은 다른 요청과 겹치지 않는다.
+     *
+     * @return 변경된 행 수 (카운터 행이 없으면 0)
+     */
+    @Modifying
+    @Query("update MemberTodoCounter c set c.total = c.total + :totalDelta, "
+            + "c.completed = c.completed + :completedDelta, c.version = c.version + 1, "
+            + "c.lastDisplayOrder = c.lastDisplayOrder + :orderDelta "
+            + "where c.memberId = :memberId")
+    int incrementAndAllocate(@Param("memberId") Long memberId,
+                             @Param("totalDelta") long totalDelta,
+                             @Param("completedDelta") long completedDelta,
+                             @Param("orderDelta") int orderDelta);
+
+    @Query("select c.lastDisplayOrder from MemberTodoCounter c where c.memberId = :memberId")
+    int findLastDisplayOrder(@Param("memberId") Long memberId);
+
+    /**
+     * 순서 재부여 후 마지막 순서 값 갱신 + 변경 버전 증가
+     */
+    @Modifying
+    @Query("update MemberTodoCounter c set c.lastDisplayOrder = :lastDisplayOrder, c.version = c.version + 1 "
+            + "where c.memberId = :memberId")
+    int resetLastDisplayOrder(@Param("memberId") Long memberId, @Param("lastDisplayOrder") int lastDisplayOrder);
+
+    /**
+     * 회원 행 잠금 (카운터 행이 없는 회원의 첫 생성을 직렬화, 트랜잭션 끝까지 유지)
+     *
+     * 카운터 행이 없으면 UPDATE가 잠글 행이 없으므로, 동시에 온 두 요청(또는 보정 작업)이
+     * 같은 PK로 INSERT하지 않도록 이 잠금을 잡은 뒤 다시 확인하고 만든다.
+     */
+    @Query(value = "select id from members where id = :memberId for update", nativeQuery = true)
+    Optional<Long> lockMember(@Param("memberId") Long memberId);
+
+    @Query("select c.version from MemberTodoCounter c where c.memberId = :memberId")
+    Optional<Long> findVersionByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 보정 대상 카운터 행 잠금 (보정 중 동시 증감이 덮어써지지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from MemberTodoCounter c where c.memberId in :memberIds")
+    List<MemberTodoCounter> findAllForUpdate(@Param("memberIds") Collection<Long> memberIds);
+
+    @Query("select m.id from Member m where m.id > :afterId order by m.id")
+    List<Long> findMemberIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new com.todo.repository.TodoCountSummary(t.member.id, count(t), "
+            + "sum(case when t.completed = true then 1L else 0L end), max(t.displayOrder)) "
+            + "from Todo t where t.member.id in :memberIds group by t.member.id")
+    List<TodoCountSummary> countByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+}
@@ -1,10 +1,113 @@
 package com.todo.repository;
 
-import com.todo.entity.RefreshToken;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
+/**
+ * Refresh Token 저장소 (Redis, 회원당 토큰 1개)
+ *
+ * - refresh:t:{SHA-256(token)} → memberId : 재발급 시 토큰으로 바로 조회 (보조 인덱스 없음, 원문 토큰은 저장하지 않음)
+ * - refresh:m:{memberId} → SHA-256(token) : 로그인/로그아웃 시 회원의 기존 토큰을 찾아 지움
+ * - 발급/교체/폐기는 각각 Lua 스크립트 한 번(Redis 왕복 1회)으로 두 키를 함께 바꾸며, 두 키 모두 토큰 만료 시각에 PX로 만료
+ *
+ * 스크립트가 다른 키의 이름을 값으로부터 만들어 접근하므로 단일 Redis(또는 샤딩하지 않는 구성)를 전제로 한다.
+ */
+@Repository
+public class RefreshTokenRepository {
+
+    private static final String TOKEN_KEY_PREFIX = "refresh:t:";
+    private static final String MEMBER_KEY_PREFIX = "refresh:m:";
+
+    /**
+     * 새 토큰 발급 (회원의 기존 토큰은 무효화)
+     * KEYS[1]: 회원 키, KEYS[2]: 새 토큰 키 / ARGV: memberId, 새 토큰 digest, TTL(ms), 토큰 키 접두어
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of("""
+            local old = redis.call('GET', KEYS[1])
+            if old then redis.call('DEL', ARGV[4] .. old) end
+            redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[3])
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 토큰 교체 (기존 토큰이 없으면 아무것도 바꾸지 않음)
+     * KEYS[1]: 기존 토큰 키, KEYS[2]: 새 토큰 키 / ARGV: 새 토큰 digest, TTL(ms), 회원 키 접두어
+     *
+     * @return memberId, 기존 토큰이 없으면 nil
+     */
+    private static final RedisScript<String> ROTATE_SCRIPT = RedisScript.of("""
+            local memberId = redis.call('GET', KEYS[1])
+            if not memberId then return false end
+            redis.call('DEL', KEYS[1])
+            redis.call('SET', KEYS[2], memberId, 'PX', ARGV[2])
+            redis.call('SET', ARGV[3] .. memberId, ARGV[1], 'PX', ARGV[2])
+            return memberId
+            """, String.class);
+
+    /**
+     * 회원 토큰 폐기
+     * KEYS[1]: 회원 키 / ARGV: 토큰 키 접두어
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = RedisScript.of("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then return 0 end
+            redis.call('DEL', KEYS[1], ARGV[1] .. current)
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RefreshTokenRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 로그인/OAuth2 로그인: 새 토큰 저장, 회원의 이전 토큰은 더 이상 재발급에 쓸 수 없음
+     */
+    public void issue(Long memberId, String refreshToken, long ttlMillis) {
+        String digest = digest(refreshToken);
+        redisTemplate.execute(ISSUE_SCRIPT, List.of(MEMBER_KEY_PREFIX + memberId, TOKEN_KEY_PREFIX + digest),
+                memberId.toString(), digest, String.valueOf(ttlMillis), TOKEN_KEY_PREFIX);
+    }
+
+    /**
+     * 재발급: 기존 토큰을 지우고 새 토큰으로 교체
+     *
+     * @return 토큰 주인의 memberId, 기존 토큰이 없거나 만료/교체되었으면 empty
+     */
+    public Optional<Long> rotate(String refreshToken, String newRefreshToken, long ttlMillis) {
+        String newDigest = digest(newRefreshToken);
+        String memberId = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(TOKEN_KEY_PREFIX + digest(refreshToken), TOKEN_KEY_PREFIX + newDigest),
+                newDigest, String.valueOf(ttlMillis), MEMBER_KEY_PREFIX);
+        return Optional.ofNullable(memberId).map(Long::valueOf);
+    }
+
+    /**
+     * 로그아웃: 회원 토큰 폐기
+     *
+     * @return 폐기한 토큰이 있었는지
+     */
+    public boolean revoke(Long memberId) {
+        Long revoked = redisTemplate.execute(REVOKE_SCRIPT, List.of(MEMBER_KEY_PREFIX + memberId), TOKEN_KEY_PREFIX);
+        return revoked != null && revoked > 0;
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,7 @@
+package com.todo.repository;
+
+/**
+ * todos 테이블에서 회원별로 다시 센 개수와 최대 순서 값 (카운터 보정용)
+ */
+public record TodoCountSummary(Long memberId, Long total, Long completed, Integer maxDisplayOrder) {
+}
@@ -2,8 +2,13 @@ package com.todo.repository;
 
 import com.todo.entity.Todo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Todo Repository (데이터 접근 계층)
  * 
@@ -16,15 +21,59 @@ public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositor
 
     /**
      * 완료된 항목 수 조회
+     *
+     * 파생 쿼리(countByMemberIdAndCompleted)는 members LEFT JOIN을 만들어
+     * todos 인덱스를 타지 못하므로 FK 컬럼을 직접 비교하는 JPQL 사용
      */
-    long countByMemberIdAndCompleted(Long memberId, Boolean completed);
+    @Query("select count(t) from Todo t where t.member.id = :memberId and t.completed = :completed")
+    long countByMemberIdAndCompleted(@Param("memberId") Long memberId, @Param("completed") Boolean completed);
 
     /**
      * 전체 개수 조회 (순서 지정을 위해)
      */
-    long countByMemberId(Long memberId);
+    @Query("select count(t) from Todo t where t.member.id = :memberId")
+    long countByMemberId(@Param("memberId") Long memberId);
 
     // Id로 조회 시에도 본인 것인지 확인 필요 (Service에서 처리하거나 여기서 Optional
     // findByIdAndMemberId(Long id, Long memberId) 추가 가능)
-    boolean existsByIdAndMemberId(Long id, Long memberId);
+    @Query("select count(t) > 0 from Todo t where t.id = :id and t.member.id = :memberId")
+    boolean existsByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId);
+
+    /**
+     * 마지막 순서 값 (새 Todo는 이 값 + 간격으로 맨 뒤에 추가, 없으면 null)
+     */
+    @Query("select max(t.displayOrder) from Todo t where t.member.id = :memberId")
+    Integer findMaxDisplayOrder(@Param("memberId") Long memberId);
+
+    /**
+     * order 바로 앞 순서 값 (이동 중인 항목 제외, 없으면 null)
+     */
+    @Query("select max(t.displayOrder) from Todo t"
+            + " where t.member.id = :memberId and t.displayOrder < :order and t.id <> :excludeId")
+    Integer findPrevDisplayOrder(@Param("memberId") Long memberId, @Param("order") int order,
+                                 @Param("excludeId") Long excludeId);
+
+    /**
+     * order 바로 뒤 순서 값 (이동 중인 항목 제외, 없으면 null)
+     */
+    @Query("select min(t.displayOrder) from Todo t"
+            + " where t.member.id = :memberId and t.displayOrder > :order and t.id <> :excludeId")
+    Integer findNextDisplayOrder(@Param("memberId") Long memberId, @Param("order") int order,
+                                 @Param("excludeId") Long excludeId);
+
+    /**
+     * from 이상의 순서 값을 delta만큼 밀어 빈 간격을 만든다 (이웃 사이 간격이 없을 때만 사용)
+     */
+    @Modifying
+    @Query("update Todo t set t.displayOrder = t.displayOrder + :delta"
+            + " where t.member.id = :memberId and t.displayOrder >= :from and t.id <> :excludeId")
+    int shiftDisplayOrder(@Param("memberId") Long memberId, @Param("from") int from,
+                          @Param("delta") int delta, @Param("excludeId") Long excludeId);
+
+    /**
+     * 현재 정렬 순서대로의 ID 목록 (순서 재부여용)
+     */
+    @Query("select t.id from Todo t where t.member.id = :memberId"
+            + " order by t.displayOrder asc, t.createdAt desc, t.id desc")
+    List<Long> findIdsInDisplayOrder(@Param("memberId") Long memberId);
 }
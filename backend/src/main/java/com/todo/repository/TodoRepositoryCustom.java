@@ -1,13 +1,98 @@
 package com.todo.repository;
 
-import com.todo.entity.Todo;
+import com.todo.dto.TodoCursor;
+import com.todo.dto.TodoImportRow;
+import com.todo.dto.TodoResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TodoRepositoryCustom {
-    List<Todo> findAllSorted(Long memberId);
+    /**
+     * 목록 조회는 엔티티 대신 TodoResponse로 바로 프로젝션
+     * (영속성 컨텍스트 적재/스냅샷/필드 복사 생략)
+     */
+    List<TodoResponse> findAllSorted(Long memberId);
 
-    List<Todo> findCompletedSorted(Long memberId, boolean completed);
+    List<TodoResponse> findCompletedSorted(Long memberId, boolean completed);
 
-    void deleteCompleted(Long memberId);
+    /**
+     * 커서 기반 페이지 조회 (OFFSET 없이 정렬 키로 seek)
+     *
+     * @param completed null이면 전체, 아니면 완료 여부로 필터
+     * @param after     null이면 첫 페이지
+     */
+    List<TodoResponse> findPage(Long memberId, Boolean completed, TodoCursor after, int limit);
+
+    /**
+     * 전체 목록을 정렬 순서대로 한 행씩 전달 (forward-only 커서, 목록을 메모리에 만들지 않음)
+     *
+     * 트랜잭션 안에서 호출해야 한다 (PostgreSQL은 트랜잭션 안에서만 fetchSize 단위로 커서를 읽음).
+     *
+     * @return 전달한 행 수
+     */
+    long scrollAllSorted(Long memberId, int fetchSize, Consumer<TodoResponse> consumer);
+
+    /**
+     * 본문 검색 (회원 범위, 관련도순 페이지)
+     * - PostgreSQL: tsvector 단어 일치 + trigram 부분 문자열 일치 (둘 다 member_id 포함 GIN 인덱스)
+     * - H2(테스트): 대소문자 무시 부분 문자열 일치 (완전 일치 → 접두 일치 → 그 외 순)
+     *
+     * 같은 관련도면 최신(id 내림차순) 순
+     */
+    List<TodoResponse> search(Long memberId, String query, int offset, int limit);
+
+    /**
+     * 가져오기 행 일괄 INSERT (엔티티/영속성 컨텍스트를 거치지 않음)
+     * - id: todos_seq에서 50개 단위 블록으로 예약 (Hibernate pooled 옵티마이저와 같은 구간 규칙)
+     * - PostgreSQL: COPY ... FROM STDIN 한 번
+     * - H2(테스트): JDBC 배치 INSERT
+     */
+    void insertAll(Long memberId, List<TodoImportRow> rows, LocalDateTime now);
+
+    /**
+     * 완료된 Todo를 휴지통으로 이동 (deleted_at만 채우는 UPDATE 한 번, 물리 삭제는 TodoTrashPurger)
+     *
+     * @return 휴지통으로 옮긴 행 수
+     */
+    long trashCompleted(Long memberId, LocalDateTime now);
+
+    /**
+     * since 이후에 휴지통으로 옮긴 Todo (최근에 옮긴 순, 최대 limit건)
+     */
+    List<TodoResponse> findTrash(Long memberId, LocalDateTime since, int limit);
+
+    /**
+     * since 이후에 휴지통으로 옮긴 Todo를 모두 복원 (UPDATE 한 번)
+     * 휴지통에 있는 동안 다른 행이 예전 순서 값을 가져갈 수 있으므로, 복원 행은 기존 순서를 유지한 채
+     * afterOrder 뒤에 gap 간격으로 순서 값을 새로 받는다 (afterOrder + gap, afterOrder + 2 * gap, ...)
+     *
+     * @return 복원된 행 수
+     */
+    long restoreTrash(Long memberId, LocalDateTime since, int afterOrder, int gap);
+
+    /**
+     * 본인 Todo 완료 상태 반전 (id + member_id 조건 UPDATE 한 번, 변경된 행 반환)
+     *
+     * @return 해당 회원의 Todo가 아니거나 없으면 empty
+     */
+    Optional<TodoResponse> toggleCompleted(Long id, Long memberId, LocalDateTime now);
+
+    /**
+     * 본인 Todo 수정 (null인 항목은 그대로, UPDATE 한 번, 변경된 행 반환)
+     *
+     * @param completed null이 아니면 완료 여부가 이 값과 다른 행만 갱신 (완료 개수 증감 판단용)
+     * @return 조건에 맞는 행이 없으면 empty
+     */
+    Optional<TodoResponse> updateOwned(Long id, Long memberId, String text, Integer displayOrder,
+                                       Boolean completed, LocalDateTime now);
+
+    /**
+     * 본인 Todo 삭제 (DELETE 한 번, 삭제된 행의 완료 여부 반환)
+     *
+     * @return 해당 회원의 Todo가 아니거나 없으면 empty
+     */
+    Optional<Boolean> deleteOwned(Long id, Long memberId);
 }
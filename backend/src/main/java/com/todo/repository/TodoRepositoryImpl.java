@@ -1,22 +1,79 @@
 package com.todo.repository;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.todo.entity.Todo;
+import com.todo.dto.TodoCursor;
+import com.todo.dto.TodoImportRow;
+import com.todo.dto.TodoResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static com.todo.entity.QTodo.todo;
 
 @RequiredArgsConstructor
 public class TodoRepositoryImpl implements TodoRepositoryCustom {
 
+    /**
+     * 변경 후 행을 돌려받을 때 사용하는 컬럼 (TodoResponse 생성자 순서)
+     */
+    private static final String RESPONSE_COLUMNS = "id, text, completed, display_order, created_at, updated_at";
+
+    /**
+     * PostgreSQL 검색: 단어 일치(text_search @@ tsquery)와 부분 문자열 일치(trigram ILIKE)를 모두 후보로,
+     * 단어 일치 점수 → 문자열 유사도 → 최신순으로 정렬
+     */
+    private static final String POSTGRES_SEARCH = "select " + RESPONSE_COLUMNS + " from todos"
+            + " where member_id = :memberId and deleted_at is null"
+            + " and (text_search @@ websearch_to_tsquery('simple', :query) or text ilike :pattern)"
+            + " order by ts_rank(text_search, websearch_to_tsquery('simple', :query)) desc,"
+            + " similarity(text, :query) desc, id desc"
+            + " offset :offset limit :limit";
+
+    /**
+     * 내보내기용 스크롤 조회 (findAllSorted와 같은 정렬, DTO로 바로 생성하여 엔티티를 적재하지 않음)
+     */
+    private static final String SCROLL_ALL_SORTED = "select new com.todo.dto.TodoResponse("
+            + "t.id, t.text, t.completed, t.displayOrder, t.createdAt, t.updatedAt)"
+            + " from Todo t where t.member.id = :memberId"
+            + " order by t.displayOrder asc, t.createdAt desc, t.id desc";
+
+    /**
+     * todos_seq 증가폭 (Todo 엔티티의 allocationSize와 동일)
+     */
+    private static final int ID_BLOCK_SIZE = 50;
+    private static final String INSERT_COLUMNS = "id, text, completed, display_order, member_id, created_at, updated_at";
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
-    public List<Todo> findAllSorted(Long memberId) {
+    public List<TodoResponse> findAllSorted(Long memberId) {
         return queryFactory
-                .selectFrom(todo)
+                .select(todoResponse())
+                .from(todo)
                 .where(todo.member.id.eq(memberId))
                 .orderBy(
                         todo.displayOrder.asc(),
@@ -25,9 +82,10 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
     }
 
     @Override
-    public List<Todo> findCompletedSorted(Long memberId, boolean completed) {
+    public List<TodoResponse> findCompletedSorted(Long memberId, boolean completed) {
         return queryFactory
-                .selectFrom(todo)
+                .select(todoResponse())
+                .from(todo)
                 .where(todo.member.id.eq(memberId)
                         .and(todo.completed.eq(completed)))
                 .orderBy(todo.displayOrder.asc())
@@ -35,11 +93,337 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
     }
 
     @Override
-    public void deleteCompleted(Long memberId) {
-        queryFactory
-                .delete(todo)
-                .where(todo.member.id.eq(memberId)
-                        .and(todo.completed.eq(true)))
-                .execute();
+    public List<TodoResponse> findPage(Long memberId, Boolean completed, TodoCursor after, int limit) {
+        return queryFactory
+                .select(todoResponse())
+                .from(todo)
+                .where(todo.member.id.eq(memberId),
+                        completedEq(completed),
+                        afterCursor(after))
+                .orderBy(
+                        todo.displayOrder.asc(),
+                        todo.createdAt.desc(),
+                        todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long scrollAllSorted(Long memberId, int fetchSize, Consumer<TodoResponse> consumer) {
+        Session session = entityManager.unwrap(Session.class);
+        long count = 0;
+        try (ScrollableResults<TodoResponse> rows = session.createQuery(SCROLL_ALL_SORTED, TodoResponse.class)
+                .setParameter("memberId", memberId)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                consumer.accept(rows.get());
+                // 세션에 쌓이는 것이 없도록 fetchSize마다 비움
+                if (++count % fetchSize == 0) {
+                    session.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public List<TodoResponse> search(Long memberId, String query, int offset, int limit) {
+        if (isPostgres()) {
+            List<?> rows = entityManager.createNativeQuery(POSTGRES_SEARCH)
+                    .setParameter("memberId", memberId)
+                    .setParameter("query", query)
+                    .setParameter("pattern", "%" + escapeLike(query) + "%")
+                    .setParameter("offset", offset)
+                    .setParameter("limit", limit)
+                    .getResultList();
+            return rows.stream().map(this::toResponse).toList();
+        }
+
+        NumberExpression<Integer> rank = new CaseBuilder()
+                .when(todo.text.equalsIgnoreCase(query)).then(0)
+                .when(todo.text.startsWithIgnoreCase(query)).then(1)
+                .otherwise(2);
+        return queryFactory
+                .select(todoResponse())
+                .from(todo)
+                .where(todo.member.id.eq(memberId),
+                        todo.text.containsIgnoreCase(query))
+                .orderBy(rank.asc(), todo.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public void insertAll(Long memberId, List<TodoImportRow> rows, LocalDateTime now) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Long> ids = reserveIds(rows.size());
+        boolean postgres = isPostgres();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            if (postgres) {
+                copyIn(connection, memberId, rows, ids, now);
+            } else {
+                batchInsert(connection, memberId, rows, ids, now);
+            }
+        });
+    }
+
+    /**
+     * 시퀀스 값 v 하나로 (v-49 ~ v) 구간을 사용 (pooled 옵티마이저와 겹치지 않음), 필요한 블록 수만큼 한 번에 조회
+     */
+    private List<Long> reserveIds(int count) {
+        String sql = isPostgres()
+                ? "select nextval('todos_seq') from generate_series(1, :blocks)"
+                : "select next value for todos_seq from system_range(1, :blocks)";
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+            for (Object value : entityManager.createNativeQuery(sql).setParameter("blocks", blocks).getResultList()) {
+                long hi = ((Number) value).longValue();
+                // H2 시퀀스는 1부터 시작하므로 첫 블록은 1 이상만 사용 (모자라면 다음 블록을 더 받음)
+                for (long id = Math.max(1, hi - ID_BLOCK_SIZE + 1); id <= hi && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * PostgreSQL COPY (텍스트 형식) 한 번으로 적재
+     */
+    private void copyIn(Connection connection, Long memberId, List<TodoImportRow> rows, List<Long> ids,
+                        LocalDateTime now) throws SQLException {
+        String timestamp = now.toString();
+        StringBuilder data = new StringBuilder(rows.size() * 64);
+        for (int i = 0; i < rows.size(); i++) {
+            TodoImportRow row = rows.get(i);
+            data.append(ids.get(i)).append('\t')
+                    .append(copyText(row.text())).append('\t')
+                    .append(row.completed() ? 't' : 'f').append('\t')
+                    .append(row.displayOrder()).append('\t')
+                    .append(memberId).append('\t')
+                    .append(timestamp).append('\t')
+                    .append(timestamp).append('\n');
+        }
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("copy todos (" + INSERT_COLUMNS + ") from stdin", new StringReader(data.toString()));
+        } catch (IOException e) {
+            throw new SQLException("COPY 실패", e);
+        }
+    }
+
+    /**
+     * COPY 텍스트 형식 이스케이프 (구분자/줄바꿈/역슬래시)
+     */
+    private static String copyText(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private void batchInsert(Connection connection, Long memberId, List<TodoImportRow> rows, List<Long> ids,
+                             LocalDateTime now) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into todos (" + INSERT_COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows.size(); i++) {
+                TodoImportRow row = rows.get(i);
+                statement.setLong(1, ids.get(i));
+                statement.setString(2, row.text());
+                statement.setBoolean(3, row.completed());
+                statement.setInt(4, row.displayOrder());
+                statement.setLong(5, memberId);
+                statement.setTimestamp(6, timestamp);
+                statement.setTimestamp(7, timestamp);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    @Override
+    public long trashCompleted(Long memberId, LocalDateTime now) {
+        return entityManager.createNativeQuery("update todos set deleted_at = :now"
+                        + " where member_id = :memberId and completed = true and deleted_at is null")
+                .setParameter("now", now)
+                .setParameter("memberId", memberId)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<TodoResponse> findTrash(Long memberId, LocalDateTime since, int limit) {
+        List<?> rows = entityManager.createNativeQuery("select " + RESPONSE_COLUMNS + " from todos"
+                        + " where member_id = :memberId and deleted_at >= :since"
+                        + " order by deleted_at desc, id desc limit :limit")
+                .setParameter("memberId", memberId)
+                .setParameter("since", since)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream().map(this::toResponse).toList();
+    }
+
+    @Override
+    public long restoreTrash(Long memberId, LocalDateTime since, int afterOrder, int gap) {
+        // 순번은 같은 조건의 행 중 (display_order, id)가 앞서는 행 수 (UPDATE 시작 시점의 값으로 계산)
+        return entityManager.createNativeQuery("update todos set deleted_at = null,"
+                        + " display_order = :afterOrder + :gap * (select count(*) from todos o"
+                        + "   where o.member_id = :memberId and o.deleted_at >= :since"
+                        + "   and (coalesce(o.display_order, 0) < coalesce(todos.display_order, 0)"
+                        + "     or (coalesce(o.display_order, 0) = coalesce(todos.display_order, 0) and o.id <= todos.id)))"
+                        + " where member_id = :memberId and deleted_at >= :since")
+                .setParameter("memberId", memberId)
+                .setParameter("since", since)
+                .setParameter("afterOrder", afterOrder)
+                .setParameter("gap", gap)
+                .executeUpdate();
+    }
+
+    @Override
+    public Optional<TodoResponse> toggleCompleted(Long id, Long memberId, LocalDateTime now) {
+        Query query = entityManager.createNativeQuery(returning(
+                "update todos set completed = not completed, updated_at = :now"
+                        + " where id = :id and member_id = :memberId and deleted_at is null", RESPONSE_COLUMNS))
+                .setParameter("now", now)
+                .setParameter("id", id)
+                .setParameter("memberId", memberId);
+        return singleRow(query).map(this::toResponse);
+    }
+
+    @Override
+    public Optional<TodoResponse> updateOwned(Long id, Long memberId, String text, Integer displayOrder,
+                                              Boolean completed, LocalDateTime now) {
+        // null 파라미터는 PostgreSQL에서 타입을 추론하지 못하므로 값이 있는 컬럼만 SET에 넣는다
+        StringBuilder dml = new StringBuilder("update todos set updated_at = :now");
+        if (text != null) {
+            dml.append(", text = :text");
+        }
+        if (displayOrder != null) {
+            dml.append(", display_order = :displayOrder");
+        }
+        if (completed != null) {
+            dml.append(", completed = :completed");
+        }
+        dml.append(" where id = :id and member_id = :memberId and deleted_at is null");
+        if (completed != null) {
+            dml.append(" and completed <> :completed");
+        }
+
+        Query query = entityManager.createNativeQuery(returning(dml.toString(), RESPONSE_COLUMNS))
+                .setParameter("now", now)
+                .setParameter("id", id)
+                .setParameter("memberId", memberId);
+        if (text != null) {
+            query.setParameter("text", text);
+        }
+        if (displayOrder != null) {
+            query.setParameter("displayOrder", displayOrder);
+        }
+        if (completed != null) {
+            query.setParameter("completed", completed);
+        }
+        return singleRow(query).map(this::toResponse);
+    }
+
+    @Override
+    public Optional<Boolean> deleteOwned(Long id, Long memberId) {
+        Query query = entityManager.createNativeQuery(returning(
+                "delete from todos where id = :id and member_id = :memberId and deleted_at is null", "completed"))
+                .setParameter("id", id)
+                .setParameter("memberId", memberId);
+        return singleRow(query).map(Boolean.class::cast);
+    }
+
+    /**
+     * 변경 문장 + 변경된 행 조회를 한 번의 왕복으로
+     * - PostgreSQL: UPDATE/DELETE ... RETURNING
+     * - H2(테스트): RETURNING 미지원이므로 FINAL TABLE(변경 후) / OLD TABLE(삭제 전) 사용
+     */
+    private String returning(String dml, String columns) {
+        if (isPostgres()) {
+            return dml + " returning " + columns;
+        }
+        String table = dml.startsWith("delete") ? "old table" : "final table";
+        return "select " + columns + " from " + table + " (" + dml + ")";
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+
+    /**
+     * LIKE 패턴 특수문자(%, _, \)를 문자 그대로 검색하도록 이스케이프 (PostgreSQL 기본 ESCAPE 문자는 \)
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private Optional<Object> singleRow(Query query) {
+        List<?> rows = query.getResultList();
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    private TodoResponse toResponse(Object row) {
+        Object[] columns = (Object[]) row;
+        return new TodoResponse(
+                ((Number) columns[0]).longValue(),
+                (String) columns[1],
+                (Boolean) columns[2],
+                columns[3] != null ? ((Number) columns[3]).intValue() : null,
+                toLocalDateTime(columns[4]),
+                toLocalDateTime(columns[5]));
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    /**
+     * todos 컬럼 → TodoResponse 생성자 프로젝션
+     */
+    private ConstructorExpression<TodoResponse> todoResponse() {
+        return Projections.constructor(TodoResponse.class,
+                todo.id,
+                todo.text,
+                todo.completed,
+                todo.displayOrder,
+                todo.createdAt,
+                todo.updatedAt);
+    }
+
+    private BooleanExpression completedEq(Boolean completed) {
+        return completed != null ? todo.completed.eq(completed) : null;
+    }
+
+    /**
+     * (displayOrder, createdAt, id) 정렬 키 기준으로 커서 이후 행만 조회
+     */
+    private BooleanExpression afterCursor(TodoCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return todo.displayOrder.gt(cursor.displayOrder())
+                .or(todo.displayOrder.eq(cursor.displayOrder())
+                        .and(todo.createdAt.lt(cursor.createdAt())))
+                .or(todo.displayOrder.eq(cursor.displayOrder())
+                        .and(todo.createdAt.eq(cursor.createdAt()))
+                        .and(todo.id.lt(cursor.id())));
     }
 }
@@ -4,12 +4,12 @@ import com.todo.config.JwtTokenProvider;
 import com.todo.dto.AuthRequest;
 import com.todo.dto.AuthResponse;
 import com.todo.entity.Member;
-import com.todo.entity.RefreshToken;
 import com.todo.exception.DuplicateResourceException;
 import com.todo.exception.ResourceNotFoundException;
 import com.todo.exception.UnauthorizedException;
 import com.todo.repository.MemberRepository;
 import com.todo.repository.RefreshTokenRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("auth.service")
 @RequiredArgsConstructor
 public class AuthService {
 
@@ -28,7 +29,10 @@ public class AuthService {
         private final JwtTokenProvider jwtTokenProvider;
         private final RefreshTokenRepository refreshTokenRepository;
 
-        @Transactional
+        /**
+         * 해시 계산(전용 스레드 풀 대기 포함) 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+         * (조회/저장은 각각 짧은 트랜잭션, 동시 가입은 email unique 제약으로 막힘)
+         */
         public void signup(AuthRequest authRequest) {
                 if (memberRepository.existsByEmail(authRequest.getEmail())) {
                         throw new DuplicateResourceException("이미 가입되어 있는 유저입니다.");
@@ -44,7 +48,9 @@ public class AuthService {
                 memberRepository.save(member);
         }
 
-        @Transactional
+        /**
+         * 비밀번호 검증(전용 스레드 풀 대기 포함) 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+         */
         public AuthResponse login(AuthRequest authRequest) {
                 // 1. Login ID/PW 를 기반으로 AuthenticationToken 생성
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
@@ -54,21 +60,15 @@ public class AuthService {
                 Authentication authentication = authenticationManagerBuilder.getObject()
                                 .authenticate(authenticationToken);
 
-                // 3. 인증 정보를 기반으로 JWT 토큰 생성
-                String accessToken = jwtTokenProvider.generateAccessToken(authentication);
-                String refreshToken = jwtTokenProvider.generateRefreshToken();
-
-                // 4. RefreshToken Redis 저장
+                // 3. 인증 정보를 기반으로 JWT 토큰 생성 (memberId claim 포함)
                 Member member = memberRepository.findByEmail(authRequest.getEmail())
                                 .orElseThrow(() -> new ResourceNotFoundException("유저 정보가 없습니다."));
 
-                RefreshToken refreshTokenEntity = RefreshToken.builder()
-                                .id(member.getId().toString())
-                                .refreshToken(refreshToken)
-                                .expiration(jwtTokenProvider.getRefreshTokenValidity())
-                                .build();
+                String accessToken = jwtTokenProvider.generateAccessToken(authentication, member.getId(), null);
+                String refreshToken = jwtTokenProvider.generateRefreshToken();
 
-                refreshTokenRepository.save(refreshTokenEntity);
+                // 4. RefreshToken Redis 저장 (회원의 이전 토큰은 무효화)
+                refreshTokenRepository.issue(member.getId(), refreshToken, jwtTokenProvider.getRefreshTokenValidity());
 
                 return AuthResponse.builder()
                                 .grantType("Bearer")
@@ -82,26 +82,23 @@ public class AuthService {
 
         @Transactional
         public AuthResponse reissue(String refreshToken) {
-                // 1. Refresh Token 검증
-                RefreshToken savedToken = refreshTokenRepository.findByRefreshToken(refreshToken)
+                // 1. Refresh Token 검증 + Rotation (기존 삭제 후 새로 저장, Redis 왕복 1회)
+                String newRefreshToken = jwtTokenProvider.generateRefreshToken();
+                Long memberId = refreshTokenRepository
+                                .rotate(refreshToken, newRefreshToken, jwtTokenProvider.getRefreshTokenValidity())
                                 .orElseThrow(() -> new UnauthorizedException("유효하지 않은 Refresh Token입니다."));
 
                 // 2. Member 조회
-                Member member = memberRepository.findById(Long.parseLong(savedToken.getId()))
+                Member member = memberRepository.findById(memberId)
                                 .orElseThrow(() -> new ResourceNotFoundException("유저 정보가 없습니다."));
 
-                // 3. 새로운 토큰 발급
+                // 3. 새로운 Access Token 발급
                 Authentication authentication = new UsernamePasswordAuthenticationToken(
                                 member.getEmail(), null,
                                 java.util.List.of(
                                                 new org.springframework.security.core.authority.SimpleGrantedAuthority(
                                                                 "ROLE_" + member.getRole().name())));
-                String newAccessToken = jwtTokenProvider.generateAccessToken(authentication);
-                String newRefreshToken = jwtTokenProvider.generateRefreshToken();
-
-                // 4. Refresh Token Rotation (기존 삭제 후 새로 저장)
-                savedToken.updateToken(newRefreshToken, jwtTokenProvider.getRefreshTokenValidity());
-                refreshTokenRepository.save(savedToken);
+                String newAccessToken = jwtTokenProvider.generateAccessToken(authentication, member.getId(), null);
 
                 return AuthResponse.builder()
                                 .grantType("Bearer")
@@ -117,6 +114,6 @@ public class AuthService {
         public void logout(String email) {
                 Member member = memberRepository.findByEmail(email)
                                 .orElseThrow(() -> new ResourceNotFoundException("유저 정보가 없습니다."));
-                refreshTokenRepository.deleteById(member.getId().toString());
+                refreshTokenRepository.revoke(member.getId());
         }
 }
@@ -5,6 +5,7 @@ import com.todo.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -12,7 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
 
@@ -24,6 +25,17 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
     }
 
+    /**
+     * 로그인 성공 후 해시 형식/cost가 현재 설정과 다르면 DaoAuthenticationProvider가 새 해시로 호출
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        memberRepository.findByEmail(user.getUsername())
+                .ifPresent(member -> member.changePassword(newPassword));
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+
     private UserDetails createUserDetails(Member member) {
         return User.builder()
                 .username(member.getEmail())
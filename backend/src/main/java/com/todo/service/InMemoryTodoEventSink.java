@@ -0,0 +1,27 @@
+package com.todo.service;
+
+import com.todo.dto.TodoOutboxEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현재 노드 메모리에 쌓기만 하는 발행 대상 (테스트/로컬 개발용, app.todo-outbox.sink=memory)
+ */
+public class InMemoryTodoEventSink implements TodoEventSink {
+
+    private final List<TodoOutboxEvent> published = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<TodoOutboxEvent> events) {
+        published.addAll(events);
+    }
+
+    public synchronized List<TodoOutboxEvent> getPublished() {
+        return List.copyOf(published);
+    }
+
+    public synchronized void clear() {
+        published.clear();
+    }
+}
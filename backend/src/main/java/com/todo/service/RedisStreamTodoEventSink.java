@@ -0,0 +1,59 @@
+package com.todo.service;
+
+import com.todo.dto.TodoOutboxEvent;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Stream으로 발행 (배치 전체를 파이프라인 한 번으로 XADD)
+ *
+ * 필드: outboxId, memberId, type, todoId, payload, createdAt
+ * 소비자는 XREADGROUP으로 읽으며, 스트림 길이는 MAXLEN ~ 으로 제한한다.
+ */
+public class RedisStreamTodoEventSink implements TodoEventSink {
+
+    private final StringRedisTemplate redisTemplate;
+    private final byte[] streamKey;
+    private final XAddOptions addOptions;
+
+    public RedisStreamTodoEventSink(StringRedisTemplate redisTemplate, String streamKey, long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.streamKey = streamKey.getBytes(StandardCharsets.UTF_8);
+        this.addOptions = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    }
+
+    @Override
+    public void publish(List<TodoOutboxEvent> events) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (TodoOutboxEvent event : events) {
+                connection.streamCommands().xAdd(toRecord(event), addOptions);
+            }
+            return null;
+        });
+    }
+
+    private MapRecord<byte[], byte[], byte[]> toRecord(TodoOutboxEvent event) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        fields.put(bytes("outboxId"), bytes(String.valueOf(event.id())));
+        fields.put(bytes("memberId"), bytes(String.valueOf(event.memberId())));
+        fields.put(bytes("type"), bytes(event.type()));
+        if (event.todoId() != null) {
+            fields.put(bytes("todoId"), bytes(String.valueOf(event.todoId())));
+        }
+        fields.put(bytes("payload"), bytes(event.payload()));
+        fields.put(bytes("createdAt"), bytes(event.createdAt().toString()));
+        return StreamRecords.rawBytes(fields).withStreamKey(streamKey);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+package com.todo.service;
+
+import com.todo.entity.MemberTodoCounter;
+import com.todo.repository.MemberTodoCounterRepository;
+import com.todo.repository.TodoCountSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 Todo 카운터 보정 작업
+ *
+ * 회원을 ID 순으로 BATCH_SIZE명씩 나누어 todos 기준 개수를 다시 세고,
+ * 카운터와 다르면(drift) 로그를 남기고 보정한다.
+ * 배치마다 카운터 행을 먼저 잠근 뒤 개수를 세므로 진행 중인 증감과 충돌하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCounterRepairJob {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MemberTodoCounterRepository counterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${app.todo-counter.repair-cron:0 0 4 * * *}")
+    public void scheduledRepair() {
+        RepairReport report = repair();
+        log.info("Todo 카운터 보정 완료: scanned={}, drifted={}", report.scanned(), report.drifted());
+    }
+
+    public RepairReport repair() {
+        long scanned = 0;
+        long drifted = 0;
+        long afterId = 0L;
+
+        while (true) {
+            long cursor = afterId;
+            BatchResult batch = transactionTemplate.execute(status -> repairBatch(cursor));
+            if (batch == null || batch.size() == 0) {
+                break;
+            }
+            scanned += batch.size();
+            drifted += batch.drifted();
+            afterId = batch.lastMemberId();
+        }
+        return new RepairReport(scanned, drifted);
+    }
+
+    private BatchResult repairBatch(long afterId) {
+        List<Long> memberIds = counterRepository.findMemberIdsAfter(afterId, PageRequest.of(0, BATCH_SIZE));
+        if (memberIds.isEmpty()) {
+            return new BatchResult(0, 0, afterId);
+        }
+
+        Map<Long, MemberTodoCounter> counters = counterRepository.findAllForUpdate(memberIds).stream()
+                .collect(Collectors.toMap(MemberTodoCounter::getMemberId, Function.identity()));
+        Map<Long, TodoCountSummary> actuals = counterRepository.countByMemberIds(memberIds).stream()
+                .collect(Collectors.toMap(TodoCountSummary::memberId, Function.identity()));
+
+        int drifted = 0;
+        for (Long memberId : memberIds) {
+            TodoCountSummary actual = actuals.get(memberId);
+            long total = actual != null ? actual.total() : 0;
+            long completed = actual != null ? actual.completed() : 0;
+            int maxOrder = actual != null && actual.maxDisplayOrder() != null ? actual.maxDisplayOrder() : 0;
+
+            MemberTodoCounter counter = counters.get(memberId);
+            if (counter == null) {
+                // 요청이 같은 회원의 카운터 행을 먼저 만들었으면 다음 보정에서 확인
+                counterRepository.lockMember(memberId);
+                if (counterRepository.existsById(memberId)) {
+                    continue;
+                }
+                counterRepository.save(new MemberTodoCounter(memberId, total, completed, maxOrder));
+                drifted++;
+                log.warn("Todo 카운터 누락: memberId={}, total={}, completed={}", memberId, total, completed);
+            } else if (counter.getTotal() != total || counter.getCompleted() != completed
+                    || counter.getLastDisplayOrder() < maxOrder) {
+                log.warn("Todo 카운터 불일치: memberId={}, total={}→{}, completed={}→{}, lastDisplayOrder={}/{}",
+                        memberId, counter.getTotal(), total, counter.getCompleted(), completed,
+                        counter.getLastDisplayOrder(), maxOrder);
+                counter.reset(total, completed, maxOrder);
+                drifted++;
+            }
+        }
+        return new BatchResult(memberIds.size(), drifted, memberIds.get(memberIds.size() - 1));
+    }
+
+    public record RepairReport(long scanned, long drifted) {
+    }
+
+    private record BatchResult(int size, int drifted, long lastMemberId) {
+    }
+}
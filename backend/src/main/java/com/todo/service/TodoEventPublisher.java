@@ -0,0 +1,100 @@
+package com.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.config.TodoStreamProperties;
+import com.todo.dto.TodoEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Todo 변경 이벤트 발행
+ *
+ * 커밋 후 Redis 채널(todo:events)로 발행하고, 각 노드는 구독한 메시지를
+ * 자기 노드에 연결된 회원 스트림으로만 전달한다 (TodoStreamRegistry).
+ * 메시지 형식: "{memberId}|{type}|{json}" (json은 발행 시 한 번만 직렬화)
+ * Redis 발행에 실패하면 최소한 현재 노드의 연결에는 직접 전달한다.
+ *
+ * 하위 소비자(분석/알림/검색 색인)용으로는 같은 이벤트를 변경 트랜잭션 안에서 outbox에도 기록한다 (TodoOutbox).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoEventPublisher implements MessageListener {
+
+    public static final String CHANNEL = "todo:events";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TodoStreamRegistry streamRegistry;
+    private final TodoStreamProperties properties;
+    private final TodoOutbox outbox;
+
+    /**
+     * 현재 트랜잭션 커밋 후 발행 (롤백되면 발행하지 않음, 트랜잭션 밖이면 즉시)
+     * outbox 기록은 현재 트랜잭션에서 바로 한다
+     */
+    public void publishAfterCommit(Long memberId, TodoEvent event) {
+        String json = serialize(event);
+        outbox.append(memberId, event, json);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(memberId, event.type(), json);
+                }
+            });
+        } else {
+            publish(memberId, event.type(), json);
+        }
+    }
+
+    /**
+     * Redis 채널 메시지 수신 → 현재 노드의 해당 회원 연결로 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf('|');
+        int second = body.indexOf('|', first + 1);
+        if (first < 0 || second < 0) {
+            log.warn("잘못된 Todo 이벤트 메시지: {}", body);
+            return;
+        }
+        try {
+            Long memberId = Long.valueOf(body.substring(0, first));
+            streamRegistry.dispatch(memberId, body.substring(first + 1, second), body.substring(second + 1));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 Todo 이벤트 메시지: {}", body);
+        }
+    }
+
+    private void publish(Long memberId, String type, String json) {
+        if (!properties.isRedisFanout()) {
+            streamRegistry.dispatch(memberId, type, json);
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, memberId + "|" + type + "|" + json);
+        } catch (RuntimeException e) {
+            log.warn("Todo 이벤트 발행 실패, 현재 노드에만 전달: {}", e.getMessage());
+            streamRegistry.dispatch(memberId, type, json);
+        }
+    }
+
+    private String serialize(TodoEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Todo 이벤트 직렬화 실패", e);
+        }
+    }
+}
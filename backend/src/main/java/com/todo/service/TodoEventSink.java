@@ -0,0 +1,16 @@
+package com.todo.service;
+
+import com.todo.dto.TodoOutboxEvent;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트를 내보낼 대상 (분석/알림/검색 색인 등 하위 소비자가 읽는 곳)
+ *
+ * publish가 예외 없이 끝나면 발행된 것으로 보고 outbox에서 삭제한다.
+ * 실패하면 다음 주기에 같은 배치를 다시 보내므로 소비자는 id(outbox id)로 중복을 걸러야 한다.
+ */
+public interface TodoEventSink {
+
+    void publish(List<TodoOutboxEvent> events);
+}
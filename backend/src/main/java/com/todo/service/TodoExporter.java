@@ -0,0 +1,165 @@
+package com.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.todo.config.TodoExportProperties;
+import com.todo.dto.TodoFileFormat;
+import com.todo.dto.TodoResponse;
+import com.todo.exception.ServiceUnavailableException;
+import com.todo.repository.TodoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 회원의 전체 Todo를 NDJSON/CSV로 스트리밍 출력
+ *
+ * 커서로 한 행씩 읽어 바로 쓰므로 목록 크기와 관계없이 메모리 사용량이 일정하다.
+ * (응답 스트림 쓰기는 요청 스레드가 아닌 MVC 비동기 스레드에서 실행되므로 회원 id는 호출자가 넘긴다)
+ * 커서는 다운로드가 끝날 때까지 DB 커넥션을 붙잡으므로 동시 내보내기 수를 maxConcurrent로 제한한다.
+ */
+@Slf4j
+@Component
+public class TodoExporter {
+
+    /**
+     * 커서가 한 번에 가져오는 행 수 (영속성 컨텍스트도 이 단위로 비움)
+     */
+    static final int FETCH_SIZE = 500;
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final String CSV_HEADER = "id,text,completed,displayOrder,createdAt,updatedAt";
+
+    private final TodoRepository todoRepository;
+    private final ObjectWriter jsonWriter;
+    private final Semaphore permits;
+
+    public TodoExporter(TodoRepository todoRepository, ObjectMapper objectMapper, TodoExportProperties properties) {
+        this.todoRepository = todoRepository;
+        this.permits = new Semaphore(properties.getMaxConcurrent());
+        // 행마다 flush하면 gzip 블록이 잘게 쪼개지므로 버퍼가 찰 때만 내보냄
+        this.jsonWriter = objectMapper.writerFor(TodoResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 내보내기 자리 확보 (요청 스레드에서 호출, 자리가 없으면 기다리지 않고 거절)
+     *
+     * @return 자리 반납 (여러 번 호출해도 한 번만 반납)
+     * @throws ServiceUnavailableException 동시 내보내기 수 한도 초과
+     */
+    public Runnable acquire() {
+        if (!permits.tryAcquire()) {
+            throw new ServiceUnavailableException("동시 내보내기 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+    }
+
+    /**
+     * @param gzip true면 gzip으로 압축하며 출력 (Content-Encoding: gzip 응답용)
+     * @return 출력한 행 수
+     */
+    @Transactional(readOnly = true)
+    public long write(Long memberId, TodoFileFormat format, boolean gzip, OutputStream out) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        long count;
+        try {
+            count = switch (format) {
+                case NDJSON -> writeNdjson(memberId, writer);
+                case CSV -> writeCsv(memberId, writer);
+            };
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 받는 도중 연결을 끊은 경우 등
+            throw e.getCause();
+        }
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        log.debug("Todo 내보내기 완료: memberId={}, format={}, rows={}", memberId, format, count);
+        return count;
+    }
+
+    private long writeNdjson(Long memberId, Writer writer) throws IOException {
+        // 값 사이 기본 구분자(공백) 대신 줄바꿈을 직접 씀
+        JsonGenerator generator = jsonWriter.createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+        long count = todoRepository.scrollAllSorted(memberId, FETCH_SIZE, unchecked(todo -> {
+            jsonWriter.writeValue(generator, todo);
+            generator.writeRaw('\n');
+        }));
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Long memberId, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        return todoRepository.scrollAllSorted(memberId, FETCH_SIZE, unchecked(todo -> {
+            writer.write(String.valueOf(todo.getId()));
+            writer.write(',');
+            writer.write(csvField(todo.getText()));
+            writer.write(',');
+            writer.write(String.valueOf(todo.getCompleted()));
+            writer.write(',');
+            writer.write(todo.getDisplayOrder() != null ? String.valueOf(todo.getDisplayOrder()) : "");
+            writer.write(',');
+            writer.write(dateTime(todo.getCreatedAt()));
+            writer.write(',');
+            writer.write(dateTime(todo.getUpdatedAt()));
+            writer.write("\r\n");
+        }));
+    }
+
+    /**
+     * 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 씀 (RFC 4180)
+     */
+    static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String dateTime(LocalDateTime value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static Consumer<TodoResponse> unchecked(RowWriter rowWriter) {
+        return todo -> {
+            try {
+                rowWriter.write(todo);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(TodoResponse todo) throws IOException;
+    }
+}
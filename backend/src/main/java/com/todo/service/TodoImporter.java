@@ -0,0 +1,291 @@
+package com.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.todo.dto.TodoFileFormat;
+import com.todo.dto.TodoImportResponse;
+import com.todo.dto.TodoRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 가져오기 본문(NDJSON/CSV)을 한 레코드씩 읽어 검증하고, 통과한 행을 CHUNK_SIZE 단위로 넘김
+ *
+ * 본문 전체를 메모리에 올리지 않으며, 한 레코드도 MAX_RECORD_LENGTH까지만 읽는다.
+ * 검증 규칙은 POST /api/todos와 같은 TodoRequest 제약(@NotBlank, @Size)을 그대로 사용한다.
+ */
+@Component
+public class TodoImporter {
+
+    /**
+     * 한 번에 적재(순서 값 할당 + COPY)하는 행 수
+     */
+    static final int CHUNK_SIZE = 1000;
+
+    /**
+     * 가져오기 한 번의 최대 행 수 (순서 값이 int 범위를 넘지 않도록)
+     */
+    static final int MAX_ROWS = 100_000;
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    /**
+     * 한 레코드 최대 길이 (text 500자 + JSON/CSV 표기 여유)
+     */
+    static final int MAX_RECORD_LENGTH = 8 * 1024;
+
+    private final ObjectReader requestReader;
+    private final Validator validator;
+
+    public TodoImporter(ObjectMapper objectMapper, Validator validator) {
+        // 내보내기 파일(id, createdAt 등 포함)을 그대로 가져올 수 있도록 모르는 필드는 무시
+        this.requestReader = objectMapper.readerFor(TodoRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.validator = validator;
+    }
+
+    /**
+     * @param chunkWriter 검증을 통과한 행 묶음 (최대 CHUNK_SIZE건, 순서 유지)
+     */
+    public TodoImportResponse read(TodoFileFormat format, Reader body, Consumer<List<TodoRequest>> chunkWriter)
+            throws IOException {
+        RecordReader reader = new RecordReader(body);
+        Result result = new Result(chunkWriter);
+        switch (format) {
+            case NDJSON -> readNdjson(reader, result);
+            case CSV -> readCsv(reader, result);
+        }
+        return result.finish();
+    }
+
+    private void readNdjson(RecordReader reader, Result result) throws IOException {
+        Record record;
+        while ((record = reader.nextLine()) != null) {
+            if (record.tooLong()) {
+                result.reject(record.line(), "한 줄은 " + MAX_RECORD_LENGTH + "자 이내여야 합니다");
+                continue;
+            }
+            String line = record.fields().get(0);
+            if (line.isBlank()) {
+                continue;
+            }
+            TodoRequest request;
+            try {
+                request = requestReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                result.reject(record.line(), "JSON 객체 형식이 아닙니다");
+                continue;
+            }
+            accept(record.line(), request, result);
+        }
+    }
+
+    /**
+     * 첫 레코드는 헤더 (text 열 필수, completed 열 선택, 그 외 열은 무시하므로 내보내기 파일을 그대로 사용 가능)
+     */
+    private void readCsv(RecordReader reader, Result result) throws IOException {
+        Record header = reader.nextCsvRecord();
+        List<String> columns = header == null ? List.of() : header.fields().stream()
+                .map(column -> column.strip().toLowerCase(Locale.ROOT))
+                .toList();
+        int textIndex = columns.indexOf("text");
+        int completedIndex = columns.indexOf("completed");
+        if (textIndex < 0) {
+            throw new IllegalArgumentException("CSV 첫 줄(헤더)에 text 열이 필요합니다.");
+        }
+
+        Record record;
+        while ((record = reader.nextCsvRecord()) != null) {
+            List<String> fields = record.fields();
+            if (record.tooLong()) {
+                result.reject(record.line(), "한 행은 " + MAX_RECORD_LENGTH + "자 이내여야 합니다");
+                continue;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            String completed = completedIndex >= 0 && completedIndex < fields.size()
+                    ? fields.get(completedIndex).strip() : "";
+            if (!completed.isEmpty() && !completed.equalsIgnoreCase("true") && !completed.equalsIgnoreCase("false")) {
+                result.reject(record.line(), "completed는 true 또는 false여야 합니다");
+                continue;
+            }
+            String text = textIndex < fields.size() ? fields.get(textIndex) : null;
+            accept(record.line(), new TodoRequest(text, completed.isEmpty() ? null : Boolean.valueOf(completed), null),
+                    result);
+        }
+    }
+
+    private void accept(long line, TodoRequest request, Result result) {
+        Set<ConstraintViolation<TodoRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            result.reject(line, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return;
+        }
+        result.accept(request);
+    }
+
+    /**
+     * 집계 + 청크 버퍼
+     */
+    private static final class Result {
+
+        private final Consumer<List<TodoRequest>> chunkWriter;
+        private final List<TodoImportResponse.RowError> errors = new ArrayList<>();
+        private List<TodoRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+        private long accepted;
+        private long rejected;
+
+        private Result(Consumer<List<TodoRequest>> chunkWriter) {
+            this.chunkWriter = chunkWriter;
+        }
+
+        void accept(TodoRequest request) {
+            if (accepted >= MAX_ROWS) {
+                throw new IllegalArgumentException("한 번에 최대 " + MAX_ROWS + "건까지 가져올 수 있습니다.");
+            }
+            accepted++;
+            chunk.add(request);
+            if (chunk.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TodoImportResponse.RowError(line, message));
+            }
+        }
+
+        TodoImportResponse finish() {
+            flush();
+            return new TodoImportResponse(accepted, rejected, errors);
+        }
+
+        private void flush() {
+            if (!chunk.isEmpty()) {
+                chunkWriter.accept(chunk);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+    }
+
+    /**
+     * @param line    레코드가 시작하는 줄 번호 (1부터)
+     * @param tooLong MAX_RECORD_LENGTH를 넘어 내용을 버린 레코드
+     */
+    private record Record(long line, List<String> fields, boolean tooLong) {
+    }
+
+    /**
+     * 길이 제한이 있는 줄/CSV 레코드 읽기 (CSV는 RFC 4180: 따옴표 안의 쉼표/줄바꿈, "" 이스케이프)
+     */
+    private static final class RecordReader {
+
+        private final Reader in;
+        private long line = 1;
+        private boolean first = true;
+
+        private RecordReader(Reader in) {
+            this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+        }
+
+        Record nextLine() throws IOException {
+            long start = line;
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            StringBuilder value = new StringBuilder();
+            boolean tooLong = false;
+            while (c != -1 && c != '\n') {
+                if (c != '\r') {
+                    tooLong |= !append(value, c, value.length());
+                }
+                c = read();
+            }
+            return new Record(start, List.of(value.toString()), tooLong);
+        }
+
+        Record nextCsvRecord() throws IOException {
+            long start = line;
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean tooLong = false;
+            int length = 0;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        int next = read();
+                        if (next != '"') {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    }
+                    tooLong |= !append(field, c, length++);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    tooLong |= !append(field, c, length++);
+                }
+                c = read();
+            }
+            fields.add(field.toString());
+            return new Record(start, fields, tooLong);
+        }
+
+        /**
+         * @param length 레코드에서 지금까지 읽은 글자 수
+         * @return 길이 제한으로 버렸으면 false
+         */
+        private static boolean append(StringBuilder value, int c, int length) {
+            if (length >= MAX_RECORD_LENGTH) {
+                return false;
+            }
+            value.append((char) c);
+            return true;
+        }
+
+        private int read() throws IOException {
+            int c = in.read();
+            if (first) {
+                first = false;
+                if (c == '\uFEFF') { // UTF-8 BOM (엑셀 등에서 저장한 CSV)
+                    c = in.read();
+                }
+            }
+            if (c == '\n') {
+                line++;
+            }
+            return c;
+        }
+    }
+}
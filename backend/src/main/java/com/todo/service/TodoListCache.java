@@ -0,0 +1,236 @@
+package com.todo.service;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.config.ReplicaRoutingDataSource;
+import com.todo.config.TodoCacheProperties;
+import com.todo.dto.TodoResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 회원별 Todo 목록 Redis 캐시
+ *
+ * - 회원당 해시 하나(todos:{memberId})에 필터별(all/active/completed) 목록과 세대(gen) 필드를 저장
+ * - 변경 커밋 후 목록 필드를 지우고 gen을 올려 무효화 (키 하나, 왕복 1회)
+ * - 캐시 채우기는 조회 시점의 gen이 그대로일 때만 기록하여, 무효화 전에 읽은 오래된 목록이 덮어쓰지 못하게 함
+ * - 같은 노드의 동시 미스는 하나의 DB 조회로 합치고(single-flight), TTL에 지터를 더해 동시 만료를 분산
+ * - 미스는 primary에서 읽어 채움: 복제본은 무효화 이후에도 이전 목록을 돌려줄 수 있고,
+ *   그 목록이 새 gen으로 저장되면 모든 노드가 TTL 동안 이전 목록을 보게 됨
+ *   (트랜잭션이 이미 복제본 커넥션을 잡은 경우에는 조회 결과만 돌려주고 저장하지 않음)
+ * - Redis 장애 시 DB 조회로 대체 (요청 실패로 이어지지 않음)
+ */
+@Slf4j
+@Component
+public class TodoListCache {
+
+    private static final String KEY_PREFIX = "todos:";
+    private static final String GEN_FIELD = "gen";
+
+    private static final RedisScript<Long> PUT_IF_GEN_SCRIPT = RedisScript.of("""
+            local gen = redis.call('HGET', KEYS[1], 'gen') or '0'
+            if gen ~= ARGV[1] then return 0 end
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+            redis.call('HDEL', KEYS[1], 'all', 'active', 'completed')
+            local gen = redis.call('HINCRBY', KEYS[1], 'gen', 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return gen
+            """, Long.class);
+
+    private static final TypeReference<List<CachedTodo>> CACHED_LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TodoCacheProperties properties;
+    private final ConcurrentHashMap<String, CompletableFuture<List<TodoResponse>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter errors;
+    private final Counter replicaSkips;
+
+    public TodoListCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                         TodoCacheProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.hits = Counter.builder("todo.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("todo.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("todo.cache.evictions").register(meterRegistry);
+        this.errors = Counter.builder("todo.cache.errors").register(meterRegistry);
+        this.replicaSkips = Counter.builder("todo.cache.replica.skips")
+                .description("복제본에서 읽어 캐시에 저장하지 않은 미스 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 DB 조회 후 저장
+     */
+    public List<TodoResponse> get(Long memberId, String filter, Supplier<List<TodoResponse>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        String key = key(memberId);
+        List<Object> values;
+        try {
+            values = redisTemplate.opsForHash().multiGet(key, List.of(filter, GEN_FIELD));
+        } catch (RuntimeException e) {
+            errors.increment();
+            log.warn("Todo 캐시 조회 실패, DB로 대체: {}", e.getMessage());
+            return loader.get();
+        }
+
+        List<TodoResponse> cached = values.get(0) != null ? deserialize((String) values.get(0)) : null;
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        String gen = values.get(1) != null ? (String) values.get(1) : "0";
+        return loadOnce(key + ":" + filter + ":" + gen, () -> {
+            List<TodoResponse> loaded = ReplicaRoutingDataSource.readFromPrimary(loader);
+            if (ReplicaRoutingDataSource.isReadingFromReplica()) {
+                replicaSkips.increment();
+            } else {
+                put(key, filter, gen, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 회원 캐시 무효화 (트랜잭션 밖이면 즉시)
+     */
+    public void evictAfterCommit(Long memberId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(memberId);
+                }
+            });
+        } else {
+            evict(memberId);
+        }
+    }
+
+    private void evict(Long memberId) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(key(memberId)), String.valueOf(ttlMillis()));
+            evictions.increment();
+        } catch (RuntimeException e) {
+            errors.increment();
+            log.warn("Todo 캐시 무효화 실패: memberId={}, {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 키의 동시 미스는 먼저 도착한 요청의 DB 조회 결과를 공유
+     */
+    private List<TodoResponse> loadOnce(String flightKey, Supplier<List<TodoResponse>> load) {
+        CompletableFuture<List<TodoResponse>> mine = new CompletableFuture<>();
+        CompletableFuture<List<TodoResponse>> existing = inFlight.putIfAbsent(flightKey, mine);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            List<TodoResponse> result = load.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private void put(String key, String filter, String gen, List<TodoResponse> todos) {
+        try {
+            redisTemplate.execute(PUT_IF_GEN_SCRIPT, List.of(key),
+                    gen, filter, serialize(todos), String.valueOf(ttlMillis()));
+        } catch (RuntimeException e) {
+            errors.increment();
+            log.warn("Todo 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * TTL에 최대 10% 지터를 더해 키들이 한꺼번에 만료되지 않게 함
+     */
+    private long ttlMillis() {
+        long ttl = properties.getTtl().toMillis();
+        return ttl + ThreadLocalRandom.current().nextLong(ttl / 10 + 1);
+    }
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private String serialize(List<TodoResponse> todos) {
+        try {
+            return objectMapper.writeValueAsString(todos.stream().map(CachedTodo::from).toList());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Todo 캐시 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 역직렬화 실패(형식 변경 등)는 미스로 취급
+     */
+    private List<TodoResponse> deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, CACHED_LIST_TYPE).stream()
+                    .map(CachedTodo::toResponse)
+                    .toList();
+        } catch (JsonProcessingException e) {
+            errors.increment();
+            log.warn("Todo 캐시 역직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 저장 형식 (필드명 없이 배열로 직렬화하여 크기 축소)
+     */
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    record CachedTodo(Long id, String text, Boolean completed, Integer displayOrder,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static CachedTodo from(TodoResponse todo) {
+            return new CachedTodo(todo.getId(), todo.getText(), todo.getCompleted(), todo.getDisplayOrder(),
+                    todo.getCreatedAt(), todo.getUpdatedAt());
+        }
+
+        TodoResponse toResponse() {
+            return new TodoResponse(id, text, completed, displayOrder, createdAt, updatedAt);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.todo.service;
+
+import com.todo.repository.MemberTodoCounterRepository;
+import com.todo.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Todo 순서 값(display_order) 재부여 작업
+ *
+ * 순서 값은 GAP 간격으로 띄워 두고, 이동 시 이웃 사이의 중간 값을 사용한다.
+ * 간격이 소진되었거나 값이 범위 끝에 가까워진 회원은 schedule()로 예약해 두었다가
+ * 주기적으로 현재 정렬 순서대로 GAP, 2*GAP, ... 을 다시 부여한다.
+ *
+ * 회원 단위로 하나의 트랜잭션에서 처리하며(UPDATE는 BATCH_SIZE건씩 JDBC 배치),
+ * 카운터 행을 먼저 잠가 같은 회원의 이동/생성과 겹치지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoOrderRebalancer {
+
+    /**
+     * 순서 값 간격 (중간 값 삽입으로 약 10번 연속 같은 자리에 넣을 수 있음)
+     */
+    static final int GAP = 1024;
+
+    /**
+     * 이 값을 넘는 순서 값이 생기면 재부여 예약 (int 범위 여유 확보)
+     */
+    static final int REBALANCE_LIMIT = Integer.MAX_VALUE / 2;
+
+    private static final int BATCH_SIZE = 500;
+    private static final String UPDATE_ORDER_SQL = "update todos set display_order = ? where id = ?";
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final TodoRepository todoRepository;
+    private final MemberTodoCounterRepository counterRepository;
+    private final TodoListCache todoListCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 재부여 예약 (같은 회원은 한 번만 처리)
+     */
+    public void schedule(Long memberId) {
+        pending.add(memberId);
+    }
+
+    /**
+     * 새로 할당한 순서 값이 범위 끝에 가까우면 재부여 예약
+     */
+    public void scheduleIfOutOfRange(Long memberId, int order) {
+        if (order > REBALANCE_LIMIT || order < -REBALANCE_LIMIT) {
+            schedule(memberId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.todo-order.rebalance-delay:PT30S}")
+    public void rebalancePending() {
+        for (Long memberId : List.copyOf(pending)) {
+            pending.remove(memberId);
+            try {
+                int renumbered = rebalance(memberId);
+                log.info("Todo 순서 재부여 완료: memberId={}, rows={}", memberId, renumbered);
+            } catch (RuntimeException e) {
+                log.warn("Todo 순서 재부여 실패, 다음 주기에 재시도: memberId={}", memberId, e);
+                pending.add(memberId);
+            }
+        }
+    }
+
+    /**
+     * 회원의 Todo 순서 값을 현재 정렬 순서대로 GAP 간격으로 다시 부여
+     *
+     * @return 갱신한 행 수
+     */
+    public int rebalance(Long memberId) {
+        Integer renumbered = transactionTemplate.execute(status -> {
+            counterRepository.findAllForUpdate(List.of(memberId));
+
+            List<Long> ids = todoRepository.findIdsInDisplayOrder(memberId);
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                int to = Math.min(from + BATCH_SIZE, ids.size());
+                List<Object[]> args = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    args.add(new Object[] { (i + 1) * GAP, ids.get(i) });
+                }
+                jdbcTemplate.batchUpdate(UPDATE_ORDER_SQL, args);
+            }
+
+            // 다음 할당 위치를 맞추고, 순서 값이 바뀌었으므로 목록 캐시/ETag 무효화
+            counterRepository.resetLastDisplayOrder(memberId, ids.size() * GAP);
+            todoListCache.evictAfterCommit(memberId);
+            return ids.size();
+        });
+        return renumbered != null ? renumbered : 0;
+    }
+
+    boolean isPending(Long memberId) {
+        return pending.contains(memberId);
+    }
+}
@@ -0,0 +1,39 @@
+package com.todo.service;
+
+import com.todo.config.TodoOutboxProperties;
+import com.todo.dto.TodoEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Todo 변경 이벤트를 outbox 테이블에 기록
+ *
+ * 변경 트랜잭션에 참여하는 INSERT 한 번이 요청 경로의 추가 비용 전부이며,
+ * 롤백되면 이벤트도 함께 사라진다. 외부 발행은 TodoOutboxRelay가 따로 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoOutbox {
+
+    private static final String INSERT_SQL = "insert into todo_outbox"
+            + " (member_id, event_type, todo_id, payload, created_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TodoOutboxProperties properties;
+
+    /**
+     * @param payload 이미 직렬화한 TodoEvent JSON
+     */
+    public void append(Long memberId, TodoEvent event, String payload) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_SQL, memberId, event.type(), event.todoId(), payload,
+                Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)));
+    }
+}
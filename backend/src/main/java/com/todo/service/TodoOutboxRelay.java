@@ -0,0 +1,139 @@
+package com.todo.service;
+
+import com.todo.config.TodoOutboxProperties;
+import com.todo.dto.TodoOutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 이벤트를 배치로 꺼내 TodoEventSink로 발행하고 삭제
+ *
+ * 배치마다 한 트랜잭션에서 id 순으로 BATCH_SIZE건을 FOR UPDATE SKIP LOCKED로 잠그고,
+ * 발행이 끝나면 같은 트랜잭션에서 한 번에 삭제한다.
+ * 여러 노드가 동시에 돌아도 같은 행을 나눠 갖지 않으며, 발행 실패 시 롤백되어 다음 주기에 다시 보낸다.
+ * (따라서 전달은 최소 한 번이며, 노드 사이의 순서는 보장하지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.todo-outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TodoOutboxRelay {
+
+    private static final String SELECT_BATCH_SQL = "select id, member_id, event_type, todo_id, payload, created_at"
+            + " from todo_outbox order by id limit ? for update skip locked";
+    private static final String DELETE_SQL = "delete from todo_outbox where id in (:ids)";
+    private static final String OLDEST_SQL = "select created_at from todo_outbox order by id limit 1";
+
+    private static final RowMapper<TodoOutboxEvent> EVENT_MAPPER = (rs, rowNum) -> new TodoOutboxEvent(
+            rs.getLong("id"),
+            rs.getLong("member_id"),
+            rs.getString("event_type"),
+            rs.getObject("todo_id") != null ? rs.getLong("todo_id") : null,
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoEventSink sink;
+    private final TodoOutboxProperties properties;
+
+    private final Counter published;
+    private final Counter failures;
+    private final Timer deliveryLag;
+
+    /**
+     * 가장 오래된 미발행 이벤트의 나이 (밀리초, 비어 있으면 0)
+     */
+    private final AtomicLong pendingAgeMillis = new AtomicLong();
+
+    public TodoOutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, TodoEventSink sink,
+                           TodoOutboxProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.sink = sink;
+        this.properties = properties;
+        this.published = Counter.builder("todo.outbox.published").register(meterRegistry);
+        this.failures = Counter.builder("todo.outbox.failures").register(meterRegistry);
+        this.deliveryLag = Timer.builder("todo.outbox.delivery.lag")
+                .description("변경 커밋부터 외부 발행까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("todo.outbox.pending.age", pendingAgeMillis, age -> age.get() / 1000.0)
+                .description("가장 오래된 미발행 이벤트의 나이 (초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.todo-outbox.poll-interval:PT1S}",
+            initialDelayString = "${app.todo-outbox.poll-interval:PT1S}")
+    public void scheduledDrain() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Todo outbox 발행 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 밀린 이벤트를 최대 maxBatchesPerRun 배치까지 발행
+     *
+     * @return 발행한 이벤트 수
+     */
+    public long drain() {
+        long total = 0;
+        try {
+            for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+                Integer count = transactionTemplate.execute(status -> drainBatch());
+                total += count != null ? count : 0;
+                if (count == null || count < properties.getBatchSize()) {
+                    break;
+                }
+            }
+        } finally {
+            updatePendingAge();
+        }
+        return total;
+    }
+
+    private int drainBatch() {
+        List<TodoOutboxEvent> events = jdbcTemplate.query(SELECT_BATCH_SQL, EVENT_MAPPER, properties.getBatchSize());
+        if (events.isEmpty()) {
+            return 0;
+        }
+        sink.publish(events);
+        namedJdbcTemplate.update(DELETE_SQL, Map.of("ids", events.stream().map(TodoOutboxEvent::id).toList()));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (TodoOutboxEvent event : events) {
+            deliveryLag.record(Duration.between(event.createdAt(), now));
+        }
+        published.increment(events.size());
+        return events.size();
+    }
+
+    private void updatePendingAge() {
+        List<Timestamp> oldest = jdbcTemplate.queryForList(OLDEST_SQL, Timestamp.class);
+        pendingAgeMillis.set(oldest.isEmpty()
+                ? 0
+                : Math.max(0, Duration.between(oldest.get(0).toLocalDateTime(), LocalDateTime.now()).toMillis()));
+    }
+}
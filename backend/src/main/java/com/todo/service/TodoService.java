@@ -1,23 +1,50 @@
 package com.todo.service;
 
+import com.todo.config.MemberPrincipal;
+import com.todo.config.TodoTrashProperties;
+import com.todo.dto.TodoCursor;
+import com.todo.dto.TodoEvent;
+import com.todo.dto.TodoFileFormat;
+import com.todo.dto.TodoImportResponse;
+import com.todo.dto.TodoImportRow;
+import com.todo.dto.TodoMoveRequest;
+import com.todo.dto.TodoPageResponse;
 import com.todo.dto.TodoRequest;
 import com.todo.dto.TodoResponse;
+import com.todo.dto.TodoSearchResponse;
 import com.todo.entity.Member;
+import com.todo.entity.MemberTodoCounter;
 import com.todo.entity.Todo;
 import com.todo.exception.ForbiddenException;
 import com.todo.exception.ResourceNotFoundException;
 import com.todo.exception.UnauthorizedException;
 import com.todo.repository.MemberRepository;
+import com.todo.repository.MemberTodoCounterRepository;
 import com.todo.repository.TodoRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;//
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 
 /**
  * Todo 서비스 (비즈니스 로직 계층)
@@ -28,56 +55,144 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
+@Timed("todo.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+    /**
+     * 검색은 관련도순이라 커서 대신 offset을 쓰므로, 깊은 페이지로 인한 스캔/정렬 비용을 제한
+     */
+    private static final int MAX_SEARCH_OFFSET = 1000;
+
     private final TodoRepository todoRepository;
     private final MemberRepository memberRepository;
+    private final MemberTodoCounterRepository counterRepository;
+    private final TodoListCache todoListCache;
+    private final TodoOrderRebalancer orderRebalancer;
+    private final TodoEventPublisher eventPublisher;
+    private final TodoStreamRegistry streamRegistry;
+    private final TodoExporter todoExporter;
+    private final TodoImporter todoImporter;
+    private final TodoTrashProperties trashProperties;
 
     /**
      * 전체 Todo 조회 (현재 로그인한 사용자 기준)
      */
     public List<TodoResponse> findAll() {
-        Member currentMember = getCurrentMember();
-        return todoRepository.findAllSorted(currentMember.getId())
-                .stream()
-                .map(TodoResponse::from)
-                .collect(Collectors.toList());
+        return findByFilter("all");
     }
 
     /**
-     * 필터별 Todo 조회 (현재 로그인한 사용자 기준)
+     * 필터별 Todo 조회 (현재 로그인한 사용자 기준, Redis 캐시 우선)
      */
     public List<TodoResponse> findByFilter(String filter) {
-        Member currentMember = getCurrentMember();
-        List<Todo> todos;
+        Long memberId = getCurrentMemberId();
+        Boolean completed = toCompleted(filter);
+        String cacheFilter = completed == null ? "all" : filter;
+
+        return todoListCache.get(memberId, cacheFilter, () -> completed == null
+                ? todoRepository.findAllSorted(memberId)
+                : todoRepository.findCompletedSorted(memberId, completed));
+    }
 
-        switch (filter) {
-            case "active":
-                todos = todoRepository.findCompletedSorted(currentMember.getId(), false);
-                break;
-            case "completed":
-                todos = todoRepository.findCompletedSorted(currentMember.getId(), true);
-                break;
-            default:
-                todos = todoRepository.findAllSorted(currentMember.getId());
+    /**
+     * 필터별 Todo 커서 페이지 조회 (현재 로그인한 사용자 기준)
+     *
+     * limit + 1건을 조회하여 다음 페이지 존재 여부를 판단한다.
+     */
+    public TodoPageResponse findPage(String filter, int limit, String after) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit은 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
         }
+        Long memberId = getCurrentMemberId();
+        TodoCursor cursor = after != null && !after.isBlank() ? TodoCursor.decode(after) : null;
 
-        return todos.stream()
-                .map(TodoResponse::from)
-                .collect(Collectors.toList());
+        List<TodoResponse> items = todoRepository.findPage(memberId, toCompleted(filter), cursor, limit + 1);
+
+        boolean hasNext = items.size() > limit;
+        if (hasNext) {
+            items = items.subList(0, limit);
+        }
+        String nextCursor = hasNext ? TodoCursor.of(items.get(items.size() - 1)).encode() : null;
+
+        return new TodoPageResponse(items, nextCursor, hasNext);
+    }
+
+    /**
+     * 전체 Todo 내보내기 (현재 로그인한 사용자 기준)
+     *
+     * 회원 확인과 동시 내보내기 자리 확보는 요청 스레드에서 하고(한도 초과 시 503),
+     * 조회/쓰기는 응답 스트림을 쓰는 시점에 TodoExporter에서 한다.
+     */
+    public StreamingResponseBody export(TodoFileFormat format, boolean gzip) {
+        Long memberId = getCurrentMemberId();
+        Runnable release = todoExporter.acquire();
+        releaseOnAsyncCompletion(release);
+        return out -> {
+            try {
+                todoExporter.write(memberId, format, gzip, out);
+            } finally {
+                release.run();
+            }
+        };
+    }
+
+    /**
+     * 비동기 작업이 시작되지 못하고 끝난 경우(대기 중 타임아웃으로 취소, 실행 거절)에도 내보내기 자리를 반납
+     */
+    private static void releaseOnAsyncCompletion(Runnable release) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            WebAsyncUtils.getAsyncManager(attributes.getRequest()).registerCallableInterceptor(release,
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                            release.run();
+                        }
+                    });
+        }
+    }
+
+    /**
+     * 본문 검색 (현재 로그인한 사용자 기준, 관련도순 페이지)
+     *
+     * limit + 1건을 조회하여 다음 페이지 존재 여부를 판단한다.
+     */
+    public TodoSearchResponse search(String query, int limit, int offset) {
+        String q = query == null ? "" : query.strip();
+        if (q.isEmpty() || q.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 1~" + MAX_SEARCH_QUERY_LENGTH + "자여야 합니다.");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit은 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        if (offset < 0 || offset > MAX_SEARCH_OFFSET) {
+            throw new IllegalArgumentException("offset은 0~" + MAX_SEARCH_OFFSET + " 사이여야 합니다.");
+        }
+        Long memberId = getCurrentMemberId();
+
+        List<TodoResponse> items = todoRepository.search(memberId, q, offset, limit + 1);
+
+        boolean hasNext = items.size() > limit;
+        if (hasNext) {
+            items = items.subList(0, limit);
+        }
+        Integer nextOffset = hasNext ? offset + limit : null;
+
+        return new TodoSearchResponse(items, nextOffset, hasNext);
     }
 
     /**
      * 단일 Todo 조회 (본인 것만 허용)
      */
     public TodoResponse findById(Long id) {
-        Member currentMember = getCurrentMember();
+        Long memberId = getCurrentMemberId();
         Todo todo = todoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Todo not found: " + id));
 
-        validateOwnership(todo, currentMember);
+        validateOwnership(todo, memberId);
         return TodoResponse.from(todo);
     }
 
@@ -86,120 +201,463 @@ public class TodoService {
      */
     @Transactional
     public TodoResponse create(TodoRequest request) {
-        Member currentMember = getCurrentMember();
+        Long memberId = getCurrentMemberId();
+
+        boolean completed = Boolean.TRUE.equals(request.getCompleted());
 
-        // 새 Todo의 순서는 현재 개수 (맨 뒤에 추가)
-        int order = (int) todoRepository.countByMemberId(currentMember.getId());
+        // 카운터 증감과 함께 맨 뒤 순서 값을 원자적으로 할당 (count/max 조회 없음)
+        int order = adjustCounterAndAllocate(memberId, 1, completed ? 1 : 0, 1);
 
         Todo todo = Todo.builder()
                 .text(request.getText())
-                .completed(request.getCompleted())
+                .completed(completed)
                 .displayOrder(order)
-                .member(currentMember)
+                .member(memberRepository.getReferenceById(memberId)) // 프록시 참조 (SELECT 없음)
                 .build();
 
         Todo saved = todoRepository.save(todo);
-        return TodoResponse.from(saved);
+        TodoResponse response = TodoResponse.from(saved);
+        todoListCache.evictAfterCommit(memberId);
+        eventPublisher.publishAfterCommit(memberId, TodoEvent.created(response));
+        return response;
     }
 
     /**
-     * Todo 수정
+     * Todo 일괄 생성
+     *
+     * displayOrder는 카운터 UPDATE 한 번으로 맨 뒤 N칸을 예약하고,
+     * 시퀀스(pooled) + hibernate.jdbc.batch_size로 INSERT를 배치 전송한다.
      */
     @Transactional
-    public TodoResponse update(Long id, TodoRequest request) {
-        Member currentMember = getCurrentMember();
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Todo not found: " + id));
+    public List<TodoResponse> createAll(List<TodoRequest> requests) {
+        Long memberId = getCurrentMemberId();
+        Member member = memberRepository.getReferenceById(memberId);
 
-        validateOwnership(todo, currentMember);
+        long completedCount = requests.stream()
+                .filter(request -> Boolean.TRUE.equals(request.getCompleted()))
+                .count();
+        int lastOrder = adjustCounterAndAllocate(memberId, requests.size(), completedCount, requests.size());
+        int baseOrder = lastOrder - (requests.size() - 1) * TodoOrderRebalancer.GAP;
 
-        if (request.getText() != null) {
-            todo.updateText(request.getText());
+        List<Todo> todos = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            TodoRequest request = requests.get(i);
+            todos.add(Todo.builder()
+                    .text(request.getText())
+                    .completed(request.getCompleted())
+                    .displayOrder(baseOrder + i * TodoOrderRebalancer.GAP)
+                    .member(member)
+                    .build());
         }
+        List<Todo> saved = todoRepository.saveAll(todos);
+        todoRepository.flush();
+        todoListCache.evictAfterCommit(memberId);
+        eventPublisher.publishAfterCommit(memberId, TodoEvent.invalidated(saved.size(), completedCount));
+
+        return saved.stream()
+                .map(TodoResponse::from)
+                .toList();
+    }
+
+    /**
+     * Todo 가져오기 (NDJSON/CSV 본문을 스트리밍으로 읽어 맨 뒤에 추가)
+     *
+     * 검증을 통과한 행은 CHUNK_SIZE 단위로 카운터 UPDATE 한 번으로 순서 값을 예약하고
+     * COPY(PostgreSQL) 또는 JDBC 배치(H2)로 적재한다. 전체가 한 트랜잭션이다.
+     */
+    @Transactional
+    public TodoImportResponse importTodos(TodoFileFormat format, Reader body) throws IOException {
+        Long memberId = getCurrentMemberId();
+        LocalDateTime now = now();
+        long[] completedTotal = { 0 };
+
+        TodoImportResponse result = todoImporter.read(format, body, chunk -> {
+            long completedCount = chunk.stream()
+                    .filter(request -> Boolean.TRUE.equals(request.getCompleted()))
+                    .count();
+            int lastOrder = adjustCounterAndAllocate(memberId, chunk.size(), completedCount, chunk.size());
+            int baseOrder = lastOrder - (chunk.size() - 1) * TodoOrderRebalancer.GAP;
+
+            List<TodoImportRow> rows = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                TodoRequest request = chunk.get(i);
+                rows.add(new TodoImportRow(request.getText(), Boolean.TRUE.equals(request.getCompleted()),
+                        baseOrder + i * TodoOrderRebalancer.GAP));
+            }
+            todoRepository.insertAll(memberId, rows, now);
+            completedTotal[0] += completedCount;
+        });
+
+        if (result.getAccepted() > 0) {
+            todoListCache.evictAfterCommit(memberId);
+            eventPublisher.publishAfterCommit(memberId,
+                    TodoEvent.invalidated(result.getAccepted(), completedTotal[0]));
+        }
+        return result;
+    }
+
+    /**
+     * Todo 수정
+     *
+     * id + member_id 조건 UPDATE 한 번으로 소유권 확인과 수정을 함께 처리한다.
+     * 완료 여부가 바뀌는 경우만 완료 개수를 증감하기 위해, completed가 있으면
+     * "현재 값과 다를 때만" 조건으로 먼저 시도하고 맞는 행이 없을 때만 completed 없이 다시 수정한다.
+     */
+    @Transactional
+    public TodoResponse update(Long id, TodoRequest request) {
+        Long memberId = getCurrentMemberId();
+        LocalDateTime now = now();
+
+        long completedDelta = 0;
+        Optional<TodoResponse> updated = Optional.empty();
         if (request.getCompleted() != null) {
-            todo.setCompleted(request.getCompleted());
+            updated = todoRepository.updateOwned(id, memberId, request.getText(), request.getDisplayOrder(),
+                    request.getCompleted(), now);
+            if (updated.isPresent()) {
+                completedDelta = request.getCompleted() ? 1 : -1;
+            }
         }
-        if (request.getDisplayOrder() != null) {
-            todo.updateOrder(request.getDisplayOrder());
+        if (updated.isEmpty()) {
+            updated = todoRepository.updateOwned(id, memberId, request.getText(), request.getDisplayOrder(),
+                    null, now);
         }
+        TodoResponse response = updated.orElseThrow(() -> notFoundOrForbidden(id));
 
-        return TodoResponse.from(todo);
+        adjustCounter(memberId, 0, completedDelta);
+        todoListCache.evictAfterCommit(memberId);
+        eventPublisher.publishAfterCommit(memberId, TodoEvent.updated(response, completedDelta));
+        return response;
     }
 
     /**
-     * Todo 완료 상태 토글
+     * Todo 순서 이동 (드래그앤드롭)
+     *
+     * 이웃 항목의 순서 값 사이 중간 값을 사용하므로 보통 이동하는 한 행만 바뀐다.
+     * 이웃 사이에 빈 값이 없을 때만 뒤쪽 항목들을 GAP만큼 밀고(단일 UPDATE),
+     * 간격이 소진된 회원은 백그라운드 재부여(TodoOrderRebalancer)를 예약한다.
+     * 뒤쪽 항목을 밀었으면 여러 행의 순서가 바뀌었으므로 moved 대신 invalidated 이벤트로 재조회를 요청한다.
      */
     @Transactional
-    public TodoResponse toggleComplete(Long id) {
-        Member currentMember = getCurrentMember();
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Todo not found: " + id));
+    public TodoResponse move(TodoMoveRequest request) {
+        Long memberId = getCurrentMemberId();
+        boolean before = request.getBeforeId() != null;
+        if (before == (request.getAfterId() != null)) {
+            throw new IllegalArgumentException("beforeId와 afterId 중 하나만 지정해야 합니다.");
+        }
+        Long targetId = before ? request.getBeforeId() : request.getAfterId();
+        if (targetId.equals(request.getId())) {
+            throw new IllegalArgumentException("자기 자신을 기준으로 이동할 수 없습니다.");
+        }
 
-        validateOwnership(todo, currentMember);
+        // 카운터 행을 먼저 잠가(버전 증가) 순서 재부여 작업과 겹치지 않게 한 뒤 순서 값을 읽는다
+        adjustCounter(memberId, 0, 0);
 
-        todo.toggleCompleted();
-        return TodoResponse.from(todo);
+        Todo todo = todoRepository.findById(request.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Todo not found: " + request.getId()));
+        validateOwnership(todo, memberId);
+        Todo target = todoRepository.findById(targetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Todo not found: " + targetId));
+        validateOwnership(target, memberId);
+
+        OrderSlot slot = before
+                ? orderBefore(memberId, target.getDisplayOrder(), todo.getId())
+                : orderAfter(memberId, target.getDisplayOrder(), todo.getId());
+        todo.updateOrder(slot.order());
+        orderRebalancer.scheduleIfOutOfRange(memberId, slot.order());
+        todoListCache.evictAfterCommit(memberId);
+
+        TodoResponse response = TodoResponse.from(todo);
+        eventPublisher.publishAfterCommit(memberId,
+                slot.shifted() ? TodoEvent.invalidated(0, 0) : TodoEvent.moved(response));
+        return response;
     }
 
     /**
-     * Todo 삭제
+     * Todo 완료 상태 토글 (조건부 UPDATE 한 번, 엔티티 조회 없음)
      */
     @Transactional
-    public void delete(Long id) {
-        Member currentMember = getCurrentMember();
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Todo not found: " + id));
+    public TodoResponse toggleComplete(Long id) {
+        Long memberId = getCurrentMemberId();
+        TodoResponse toggled = todoRepository.toggleCompleted(id, memberId, now())
+                .orElseThrow(() -> notFoundOrForbidden(id));
 
-        validateOwnership(todo, currentMember);
+        adjustCounter(memberId, 0, toggled.getCompleted() ? 1 : -1);
+        todoListCache.evictAfterCommit(memberId);
+        eventPublisher.publishAfterCommit(memberId, TodoEvent.toggled(toggled));
+        return toggled;
+    }
 
-        todoRepository.deleteById(id);
+    /**
+     * Todo 삭제 (조건부 DELETE 한 번, 엔티티 조회 없음)
+     */
+    @Transactional
+    public void delete(Long id) {
+        Long memberId = getCurrentMemberId();
+        boolean completed = todoRepository.deleteOwned(id, memberId)
+                .orElseThrow(() -> notFoundOrForbidden(id));
+
+        adjustCounter(memberId, -1, completed ? -1 : 0);
+        todoListCache.evictAfterCommit(memberId);
+        eventPublisher.publishAfterCommit(memberId, TodoEvent.deleted(id, completed));
     }
 
     /**
      * 완료된 Todo 일괄 삭제 (본인 것만)
+     * 행을 지우지 않고 휴지통으로 옮기며(deleted_at UPDATE), 보관 기간이 지나면 TodoTrashPurger가 물리 삭제한다.
      */
     @Transactional
     public void deleteCompleted() {
-        Member currentMember = getCurrentMember();
-        todoRepository.deleteCompleted(currentMember.getId());
+        Long memberId = getCurrentMemberId();
+        long deleted = todoRepository.trashCompleted(memberId, now());
+        adjustCounter(memberId, -deleted, -deleted);
+        todoListCache.evictAfterCommit(memberId);
+        if (deleted > 0) {
+            eventPublisher.publishAfterCommit(memberId, TodoEvent.invalidated(-deleted, -deleted));
+        }
     }
 
     /**
-     * 통계 조회
+     * 휴지통 조회 (보관 기간 안의 항목만, 최근에 삭제한 순)
+     */
+    public List<TodoResponse> findTrash(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit은 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        Long memberId = getCurrentMemberId();
+        return todoRepository.findTrash(memberId, trashCutoff(), limit);
+    }
+
+    /**
+     * 휴지통 복원 (보관 기간 안의 항목 전체, 휴지통에는 완료 항목만 들어가므로 완료 개수도 함께 증가)
+     * 복원 행은 목록 맨 뒤의 새 순서 값을 받는다 (휴지통에 있는 동안 이동/재부여된 행과 겹치지 않게)
+     *
+     * @return 복원된 개수
+     */
+    @Transactional
+    public long restoreTrash() {
+        Long memberId = getCurrentMemberId();
+        // 카운터 행을 먼저 잠가 마지막 순서 값을 읽고, 복원 행에 그 뒤의 순서 값을 새로 매긴 만큼 예약
+        adjustCounter(memberId, 0, 0);
+        int lastOrder = counterRepository.findLastDisplayOrder(memberId);
+        long restored = todoRepository.restoreTrash(memberId, trashCutoff(), lastOrder, TodoOrderRebalancer.GAP);
+        if (restored > 0) {
+            adjustCounterAndAllocate(memberId, restored, restored, (int) restored);
+        }
+        todoListCache.evictAfterCommit(memberId);
+        if (restored > 0) {
+            eventPublisher.publishAfterCommit(memberId, TodoEvent.invalidated(restored, restored));
+        }
+        return restored;
+    }
+
+    /**
+     * 변경 스트림(SSE) 연결 (현재 로그인한 사용자 기준)
+     * 연결을 유지하는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter openStream() {
+        return streamRegistry.register(getCurrentMemberId());
+    }
+
+    /**
+     * 통계 조회 (카운터 PK 단건 조회, 카운터가 없을 때만 count 쿼리)
      */
     public TodoStats getStats() {
-        Member currentMember = getCurrentMember();
-        long total = todoRepository.countByMemberId(currentMember.getId());
-        long completed = todoRepository.countByMemberIdAndCompleted(currentMember.getId(), true);
-        long active = total - completed;
+        Long memberId = getCurrentMemberId();
+        MemberTodoCounter counter = counterRepository.findById(memberId)
+                .orElseGet(() -> recount(memberId));
+
+        return new TodoStats(counter.getTotal(), counter.getActive(), counter.getCompleted());
+    }
+
+    /**
+     * 목록/통계 ETag (회원 ID + 변경 버전)
+     * 변경이 없으면 같은 값이므로 목록을 읽지 않고 304 응답 가능
+     */
+    public String getVersionTag() {
+        Long memberId = getCurrentMemberId();
+        long version = counterRepository.findVersionByMemberId(memberId).orElse(0L);
+        return "\"" + memberId + "-" + version + "\"";
+    }
+
+    /**
+     * 회원 카운터 증감 + 변경 버전 증가 (Todo 변경과 같은 트랜잭션)
+     * 개수 변화가 없는 수정도 버전은 올려야 하므로 항상 호출한다.
+     * 카운터 행이 없으면 회원 행을 잠근 뒤(동시 첫 변경 직렬화) 다시 증감하고,
+     * 그래도 없으면 todos 기준으로 새로 만든다.
+     */
+    private void adjustCounter(Long memberId, long totalDelta, long completedDelta) {
+        if (counterRepository.increment(memberId, totalDelta, completedDelta) > 0) {
+            return;
+        }
+        counterRepository.lockMember(memberId);
+        if (counterRepository.increment(memberId, totalDelta, completedDelta) == 0) {
+            counterRepository.save(recount(memberId));
+        }
+    }
+
+    /**
+     * 카운터 증감 + 맨 뒤 순서 값 slots칸 할당
+     *
+     * 카운터 행 UPDATE(행 잠금)와 같은 트랜잭션에서 읽으므로 동시 생성에도 값이 겹치지 않는다.
+     * 카운터 행이 없으면 회원 행을 잠근 뒤(동시 첫 변경 직렬화) 다시 시도하고,
+     * 그래도 없으면 todos 기준으로 새로 만든다.
+     *
+     * @return 할당한 마지막 순서 값
+     */
+    private int adjustCounterAndAllocate(Long memberId, long totalDelta, long completedDelta, int slots) {
+        int orderDelta = slots * TodoOrderRebalancer.GAP;
+        int lastOrder;
+        boolean allocated =
+                counterRepository.incrementAndAllocate(memberId, totalDelta, completedDelta, orderDelta) > 0;
+        if (!allocated) {
+            counterRepository.lockMember(memberId);
+            allocated = counterRepository.incrementAndAllocate(memberId, totalDelta, completedDelta, orderDelta) > 0;
+        }
+        if (!allocated) {
+            MemberTodoCounter current = recount(memberId);
+            lastOrder = current.getLastDisplayOrder() + orderDelta;
+            counterRepository.save(new MemberTodoCounter(memberId, current.getTotal() + totalDelta,
+                    current.getCompleted() + completedDelta, lastOrder));
+        } else {
+            lastOrder = counterRepository.findLastDisplayOrder(memberId);
+        }
+        orderRebalancer.scheduleIfOutOfRange(memberId, lastOrder);
+        return lastOrder;
+    }
+
+    /**
+     * from 이상의 순서 값을 GAP만큼 밀기 (마지막 순서 값도 함께 증가)
+     */
+    private void shiftFrom(Long memberId, int from, Long movingId) {
+        todoRepository.shiftDisplayOrder(memberId, from, TodoOrderRebalancer.GAP, movingId);
+        counterRepository.incrementAndAllocate(memberId, 0, 0, TodoOrderRebalancer.GAP);
+    }
+
+    /**
+     * hi(기준 항목) 바로 앞 순서 값
+     */
+    private OrderSlot orderBefore(Long memberId, int hi, Long movingId) {
+        Integer lo = todoRepository.findPrevDisplayOrder(memberId, hi, movingId);
+        if (lo == null) {
+            return new OrderSlot(hi - TodoOrderRebalancer.GAP, false);
+        }
+        if (hi - lo < 2) {
+            shiftFrom(memberId, hi, movingId);
+            return new OrderSlot(midpoint(memberId, lo, hi + TodoOrderRebalancer.GAP), true);
+        }
+        return new OrderSlot(midpoint(memberId, lo, hi), false);
+    }
 
-        return new TodoStats(total, active, completed);
+    /**
+     * lo(기준 항목) 바로 뒤 순서 값
+     */
+    private OrderSlot orderAfter(Long memberId, int lo, Long movingId) {
+        Integer hi = todoRepository.findNextDisplayOrder(memberId, lo, movingId);
+        if (hi == null) {
+            // 맨 뒤로 이동: 새 Todo와 같은 방식으로 마지막 순서 값 할당
+            return new OrderSlot(adjustCounterAndAllocate(memberId, 0, 0, 1), false);
+        }
+        if (hi - lo < 2) {
+            shiftFrom(memberId, hi, movingId);
+            return new OrderSlot(midpoint(memberId, lo, hi + TodoOrderRebalancer.GAP), true);
+        }
+        return new OrderSlot(midpoint(memberId, lo, hi), false);
+    }
+
+    /**
+     * 두 순서 값의 중간 값 (남은 간격이 없으면 재부여 예약)
+     */
+    private int midpoint(Long memberId, int lo, int hi) {
+        int mid = lo + (hi - lo) / 2;
+        if (mid - lo < 2 || hi - mid < 2) {
+            orderRebalancer.schedule(memberId);
+        }
+        return mid;
+    }
+
+    private MemberTodoCounter recount(Long memberId) {
+        Integer maxOrder = todoRepository.findMaxDisplayOrder(memberId);
+        return new MemberTodoCounter(memberId,
+                todoRepository.countByMemberId(memberId),
+                todoRepository.countByMemberIdAndCompleted(memberId, true),
+                maxOrder != null ? maxOrder : 0);
+    }
+
+    /**
+     * filter 파라미터 → 완료 여부 조건 (all이면 null)
+     */
+    private Boolean toCompleted(String filter) {
+        return switch (filter) {
+            case "active" -> false;
+            case "completed" -> true;
+            default -> null;
+        };
     }
 
     /**
-     * 현재 로그인한 사용자 가져오기
+     * 현재 로그인한 사용자 ID 가져오기
+     *
+     * Access Token의 memberId claim(MemberPrincipal)을 사용하므로 DB 조회 없음.
+     * memberId claim이 없는 이전 토큰만 email로 members를 조회한다.
      */
-    private Member getCurrentMember() {
+    private Long getCurrentMemberId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null) {
             log.error("Authentication object is null");
             throw new UnauthorizedException("로그인된 사용자를 찾을 수 없습니다. (Auth is null)");
         }
+        if (authentication.getPrincipal() instanceof MemberPrincipal principal && principal.getId() != null) {
+            return principal.getId();
+        }
         String email = authentication.getName();
-        log.info("getCurrentMember email: {}", email);
+        log.debug("memberId claim 없음, email로 조회: {}", email);
         return memberRepository.findByEmail(email)
+                .map(Member::getId)
                 .orElseThrow(() -> new UnauthorizedException("로그인된 사용자를 찾을 수 없습니다."));
     }
 
+    /**
+     * 조건부 변경에서 맞는 행이 없을 때 (실패한 경우에만 존재 여부를 한 번 더 조회)
+     * 다른 회원의 Todo면 403, 없으면 404
+     */
+    private RuntimeException notFoundOrForbidden(Long id) {
+        if (todoRepository.existsById(id)) {
+            return new ForbiddenException("해당 Todo에 대한 권한이 없습니다.");
+        }
+        return new ResourceNotFoundException("Todo not found: " + id);
+    }
+
+    /**
+     * DB 타임스탬프 정밀도(마이크로초)에 맞춘 현재 시각 (Todo 엔티티와 동일)
+     */
+    private LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * 이 시각 이후에 휴지통으로 옮긴 항목만 조회/복원 가능
+     */
+    private LocalDateTime trashCutoff() {
+        return now().minus(trashProperties.getRetention());
+    }
+
     /**
      * 소유권 검증 (내 Todo가 맞는지)
+     * todo.getMember()는 LAZY 프록시이므로 getId()는 추가 조회를 일으키지 않음
      */
-    private void validateOwnership(Todo todo, Member member) {
-        if (!todo.getMember().getId().equals(member.getId())) {
+    private void validateOwnership(Todo todo, Long memberId) {
+        if (!todo.getMember().getId().equals(memberId)) {
             throw new ForbiddenException("해당 Todo에 대한 권한이 없습니다.");
         }
     }
 
     public record TodoStats(long total, long active, long completed) {
     }
+
+    /**
+     * 이동할 순서 값과 그 값을 만들려고 뒤쪽 항목을 밀었는지 여부
+     */
+    private record OrderSlot(int order, boolean shifted) {
+    }
 }
@@ -0,0 +1,325 @@
+package com.todo.service;
+
+import com.todo.config.TodoStreamProperties;
+import com.todo.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 현재 노드의 Todo 변경 스트림(SSE) 연결 관리
+ *
+ * - 연결 수는 노드 전체(maxConnections)와 회원별(maxConnectionsPerMember)로 제한
+ * - 유휴 연결은 요청 스레드를 점유하지 않고(서블릿 비동기), 빈 큐 하나만 가지므로 메모리가 작다
+ * - 이벤트는 연결별 큐에 넣고 소수의 전송 스레드가 비운다.
+ *   느린 클라이언트의 큐가 sendQueueSize를 넘으면 연결을 끊어(재연결 후 재조회) 메모리를 묶어 둔다
+ * - 소켓 쓰기는 별도 쓰기 스레드에서 하고 전송 스레드는 sendTimeout까지만 기다린다.
+ *   소켓 버퍼가 찬 클라이언트는 그 뒤 연결을 제거하므로, 멈춘 클라이언트 몇 개가 전송 스레드를 모두 붙잡아
+ *   다른 연결의 전달이 밀리지 않는다. SseEmitter의 send/complete는 같은 모니터를 쓰므로 complete는
+ *   멈춘 쓰기가 끝난 뒤 쓰기 스레드에서 호출한다 (멈춘 쓰기 스레드는 컨테이너 쓰기 타임아웃에 풀리며,
+ *   동시에 멈춰 있을 수 있는 수는 maxStalledWrites로 제한)
+ * - heartbeat 주기마다 주석 이벤트를 보내 프록시 유휴 타임아웃을 막고 끊긴 연결을 정리한다
+ */
+@Slf4j
+@Component
+public class TodoStreamRegistry {
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final TodoStreamProperties properties;
+    private final Map<Long, Deque<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final ExecutorService writer;
+    private final long sendTimeoutNanos;
+
+    private final Counter rejected;
+    private final Counter slowDropped;
+    private final Counter stalledDropped;
+
+    public TodoStreamRegistry(TodoStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sender = Executors.newFixedThreadPool(properties.getSenderThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "todo-stream-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 전송 스레드 하나당 진행 중인 쓰기는 하나뿐이므로, senderThreads를 넘는 스레드는 멈춘(이미 제거한) 연결의 쓰기뿐
+        this.writer = new ThreadPoolExecutor(0, properties.getSenderThreads() + properties.getMaxStalledWrites(),
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "todo-stream-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sendTimeoutNanos = properties.getSendTimeout().toNanos();
+        Gauge.builder("todo.stream.connections", connectionCount, AtomicInteger::get).register(meterRegistry);
+        this.rejected = Counter.builder("todo.stream.rejected").register(meterRegistry);
+        this.slowDropped = Counter.builder("todo.stream.dropped").tag("reason", "slow").register(meterRegistry);
+        this.stalledDropped = Counter.builder("todo.stream.dropped").tag("reason", "stalled").register(meterRegistry);
+    }
+
+    /**
+     * 새 스트림 연결 등록
+     *
+     * @throws ServiceUnavailableException 노드 연결 수 한도 초과
+     */
+    public SseEmitter register(Long memberId) {
+        if (connectionCount.incrementAndGet() > properties.getMaxConnections()) {
+            connectionCount.decrementAndGet();
+            rejected.increment();
+            throw new ServiceUnavailableException("동시 스트림 연결 수가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = newEmitter(memberId);
+        Connection connection = new Connection(memberId, emitter);
+        // 추가/제거 모두 compute 계열로 처리하여 비어서 제거되는 큐에 추가되지 않게 함
+        Deque<Connection> memberConnections = connections.compute(memberId, (id, existing) -> {
+            Deque<Connection> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(connection);
+            return deque;
+        });
+
+        emitter.onCompletion(connection::remove);
+        emitter.onTimeout(connection::close);
+        emitter.onError(error -> connection.close());
+
+        // 회원별 한도를 넘으면 가장 오래된 탭의 연결부터 종료
+        while (memberConnections.size() > properties.getMaxConnectionsPerMember()) {
+            Connection oldest = memberConnections.pollFirst();
+            if (oldest == null) {
+                break;
+            }
+            oldest.close();
+        }
+
+        connection.enqueue(new Outgoing("connected", "{}"));
+        return emitter;
+    }
+
+    /**
+     * 회원의 현재 노드 연결 모두에 이벤트 전달 (연결이 없으면 아무것도 하지 않음)
+     *
+     * @param json 직렬화된 이벤트 (연결 수와 관계없이 한 번만 직렬화)
+     */
+    public void dispatch(Long memberId, String type, String json) {
+        Deque<Connection> memberConnections = connections.get(memberId);
+        if (memberConnections == null) {
+            return;
+        }
+        Outgoing outgoing = new Outgoing(type, json);
+        for (Connection connection : memberConnections) {
+            connection.enqueue(outgoing);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.todo-stream.heartbeat:PT15S}")
+    public void heartbeat() {
+        for (Deque<Connection> memberConnections : connections.values()) {
+            for (Connection connection : memberConnections) {
+                connection.enqueue(HEARTBEAT);
+            }
+        }
+    }
+
+    /**
+     * 연결별 SseEmitter 생성 (테스트에서 쓰기 지연을 흉내 내기 위해 재정의)
+     */
+    SseEmitter newEmitter(Long memberId) {
+        return new SseEmitter(properties.getTimeout().toMillis());
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    int getConnectionCount(Long memberId) {
+        Deque<Connection> memberConnections = connections.get(memberId);
+        return memberConnections != null ? memberConnections.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(memberConnections -> memberConnections.forEach(Connection::close));
+        sender.shutdown();
+        writer.shutdownNow();
+    }
+
+    private record Outgoing(String type, String json) {
+    }
+
+    /**
+     * 연결 하나 (미전송 큐 + 전송 중 여부)
+     */
+    private final class Connection {
+
+        private final Long memberId;
+        private final SseEmitter emitter;
+        private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        /**
+         * 마지막으로 쓰기 스레드에 맡긴 쓰기 (close가 complete를 이 쓰기 뒤로 미룸)
+         */
+        private volatile CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+
+        private Connection(Long memberId, SseEmitter emitter) {
+            this.memberId = memberId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Object message) {
+            if (removed.get()) {
+                return;
+            }
+            if (queued.incrementAndGet() > properties.getSendQueueSize()) {
+                slowDropped.increment();
+                log.debug("느린 스트림 연결 종료: memberId={}", memberId);
+                close();
+                return;
+            }
+            queue.add(message);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Object message;
+                while ((message = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    if (removed.get()) {
+                        return;
+                    }
+                    send(message);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // drain 종료 직전에 들어온 메시지가 남아 있으면 다시 예약
+            if (!queue.isEmpty() && !removed.get()) {
+                scheduleDrain();
+            }
+        }
+
+        /**
+         * 쓰기 스레드에서 보내고 sendTimeout까지만 기다림 (초과하면 연결을 제거하고 IOException)
+         */
+        private void send(Object message) throws IOException {
+            CompletableFuture<Void> write;
+            try {
+                write = CompletableFuture.runAsync(() -> {
+                    try {
+                        write(message);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, writer);
+            } catch (RejectedExecutionException e) {
+                // 멈춘 쓰기 스레드가 상한까지 찼음: 이 연결의 이전 쓰기는 끝났으므로 바로 종료해도 막히지 않음
+                stalledDropped.increment();
+                close();
+                throw new IOException("스트림 쓰기 스레드 부족", e);
+            }
+            lastWrite = write;
+            try {
+                write.get(sendTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // 멈춘 쓰기가 emitter 모니터를 잡고 있으므로 여기서는 제거만 하고 complete는 쓰기가 끝난 뒤로 미룸
+                stalledDropped.increment();
+                log.debug("쓰기가 멈춘 스트림 연결 종료: memberId={}", memberId);
+                close();
+                throw new IOException("스트림 쓰기 시간 초과", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("스트림 쓰기 중단", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException io) {
+                    throw io;
+                }
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        private void write(Object message) throws IOException {
+            if (message == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("ping"));
+                return;
+            }
+            Outgoing outgoing = (Outgoing) message;
+            emitter.send(SseEmitter.event().name(outgoing.type()).data(outgoing.json(), MediaType.APPLICATION_JSON));
+        }
+
+        /**
+         * 연결 제거 후 emitter 종료. 진행 중인 쓰기가 있으면 그 쓰기가 끝난 뒤 쓰기 스레드에서 종료
+         * (send와 complete가 같은 모니터를 쓰므로 호출 스레드가 멈춘 쓰기에 묶이지 않게 함)
+         */
+        void close() {
+            if (remove()) {
+                lastWrite.whenComplete((result, error) -> complete());
+            }
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // 이미 끊긴 연결
+            }
+        }
+
+        boolean remove() {
+            if (!removed.compareAndSet(false, true)) {
+                return false;
+            }
+            connectionCount.decrementAndGet();
+            queue.clear();
+            connections.computeIfPresent(memberId, (id, memberConnections) -> {
+                memberConnections.remove(this);
+                return memberConnections.isEmpty() ? null : memberConnections;
+            });
+            return true;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.todo.service;
+
+import com.todo.config.TodoTrashProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보관 기간이 지난 휴지통 Todo를 작은 배치로 물리 삭제
+ *
+ * 배치마다 한 트랜잭션에서 오래된 순으로 batchSize건을 FOR UPDATE SKIP LOCKED로 잠가 id로 삭제하고,
+ * 배치 사이에 batchPause만큼 쉰다. 한 주기의 삭제량이 maxBatchesPerRun 배치로 제한되므로
+ * 대량 삭제가 쌓여 있어도 잠금/WAL/복제 부하가 여러 주기에 나뉜다.
+ * 여러 노드가 동시에 돌아도 같은 행을 나눠 갖지 않는다.
+ */
+@Slf4j
+@Component
+public class TodoTrashPurger {
+
+    private static final String SELECT_EXPIRED_SQL = "select id from todos"
+            + " where deleted_at < ? order by deleted_at limit ? for update skip locked";
+    private static final String DELETE_SQL = "delete from todos where id in (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoTrashProperties properties;
+
+    private final Counter purged;
+
+    public TodoTrashPurger(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                           TodoTrashProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.purged = Counter.builder("todo.trash.purged").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.todo-trash.purge-interval:PT1M}",
+            initialDelayString = "${app.todo-trash.purge-interval:PT1M}")
+    public void scheduledPurge() {
+        long count = purge(LocalDateTime.now());
+        if (count > 0) {
+            log.info("Todo 휴지통 정리 완료: purged={}", count);
+        }
+    }
+
+    /**
+     * now 기준 보관 기간이 지난 휴지통 행을 최대 maxBatchesPerRun 배치까지 삭제
+     *
+     * @return 삭제한 행 수
+     */
+    public long purge(LocalDateTime now) {
+        Timestamp cutoff = Timestamp.valueOf(now.minus(properties.getRetention()));
+        long total = 0;
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            if (i > 0 && !pause()) {
+                break;
+            }
+            Integer count = transactionTemplate.execute(status -> purgeBatch(cutoff));
+            total += count != null ? count : 0;
+            if (count == null || count < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int purgeBatch(Timestamp cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_EXPIRED_SQL, Long.class, cutoff, properties.getBatchSize());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = namedJdbcTemplate.update(DELETE_SQL, Map.of("ids", ids));
+        purged.increment(deleted);
+        return deleted;
+    }
+
+    /**
+     * @return 인터럽트되면 false (남은 배치는 다음 주기에)
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getBatchPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- Todo 변경 이벤트 outbox (변경과 같은 트랜잭션에 INSERT, TodoOutboxRelay가 id 순으로 꺼내 외부로 발행 후 삭제)
+-- 회원 삭제 후에도 남은 이벤트는 발행되어야 하므로 members FK는 두지 않음
+create table todo_outbox (
+    id         bigint generated by default as identity,
+    member_id  bigint       not null,
+    event_type varchar(20)  not null,
+    todo_id    bigint,
+    payload    varchar(4000) not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
@@ -0,0 +1,3 @@
+-- 완료 항목 일괄 삭제를 휴지통(soft delete)으로 변경
+-- deleted_at이 있는 행은 모든 조회에서 제외되고, 보관 기간이 지나면 TodoTrashPurger가 작은 배치로 지운다
+alter table todos add column deleted_at timestamp(6);
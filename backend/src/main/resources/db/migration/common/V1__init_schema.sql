@@ -0,0 +1,28 @@
+-- 초기 스키마 (기존 ddl-auto: update로 생성되던 구조와 동일)
+-- 이미 운영 중인 DB는 baseline-on-migrate(baseline-version 1)로 이 버전을 건너뛴다.
+
+create table members (
+    id          bigint generated by default as identity,
+    email       varchar(255) not null,
+    password    varchar(255),
+    nickname    varchar(255) not null,
+    role        varchar(255) not null check (role in ('USER', 'ADMIN')),
+    provider    varchar(255) not null check (provider in ('LOCAL', 'GOOGLE', 'KAKAO')),
+    provider_id varchar(255),
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    primary key (id),
+    constraint uk_members_email unique (email)
+);
+
+create table todos (
+    id            bigint generated by default as identity,
+    text          varchar(500) not null,
+    completed     boolean not null,
+    display_order integer,
+    created_at    timestamp(6),
+    updated_at    timestamp(6),
+    member_id     bigint not null,
+    primary key (id),
+    constraint fk_todos_member foreign key (member_id) references members (id)
+);
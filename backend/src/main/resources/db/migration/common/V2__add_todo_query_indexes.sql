@@ -0,0 +1,3 @@
+-- 모든 todos 조회가 member_id로 필터링하고 (display_order, created_at)으로 정렬하므로
+-- 필터와 정렬을 한 번에 처리하는 복합 인덱스
+create index idx_todos_member_order on todos (member_id, display_order, created_at);
@@ -0,0 +1,17 @@
+-- 회원별 Todo 개수 카운터 (GET /api/todos/stats를 PK 단건 조회로 처리)
+create table member_todo_counters (
+    member_id       bigint not null,
+    total_count     bigint not null default 0,
+    completed_count bigint not null default 0,
+    primary key (member_id),
+    constraint fk_member_todo_counters_member foreign key (member_id) references members (id)
+);
+
+-- 기존 회원 카운터 초기화
+insert into member_todo_counters (member_id, total_count, completed_count)
+select m.id,
+       count(t.id),
+       coalesce(sum(case when t.completed then 1 else 0 end), 0)
+from members m
+         left join todos t on t.member_id = m.id
+group by m.id;
@@ -0,0 +1,2 @@
+-- Todo 목록/통계 ETag용 변경 버전 (회원의 Todo가 바뀔 때마다 +1)
+alter table member_todo_counters add column version bigint not null default 1;
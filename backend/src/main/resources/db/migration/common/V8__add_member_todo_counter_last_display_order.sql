@@ -0,0 +1,5 @@
+-- 회원별 마지막 순서 값 (새 Todo의 displayOrder를 count/max 없이 카운터 행 UPDATE로 원자적 할당)
+alter table member_todo_counters add column last_display_order integer not null default 0;
+
+update member_todo_counters c
+set last_display_order = coalesce((select max(t.display_order) from todos t where t.member_id = c.member_id), 0);
@@ -0,0 +1,3 @@
+-- 휴지통 조회/복원/정리용 인덱스 (H2는 부분 인덱스 미지원)
+create index idx_todos_trash on todos (member_id, deleted_at);
+create index idx_todos_trash_purge on todos (deleted_at);
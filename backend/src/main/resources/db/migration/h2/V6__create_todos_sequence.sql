@@ -0,0 +1,2 @@
+-- todos.id 시퀀스 (PostgreSQL 마이그레이션과 동일한 증가폭, H2는 테스트 전용이므로 1부터 시작)
+create sequence todos_seq start with 1 increment by 50;
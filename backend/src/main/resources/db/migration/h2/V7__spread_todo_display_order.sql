@@ -0,0 +1,8 @@
+-- PostgreSQL V7과 동일 (H2는 UPDATE ... FROM 대신 MERGE 사용)
+merge into todos t
+using (select id,
+              row_number() over (partition by member_id
+                                 order by display_order, created_at desc, id desc) as rn
+       from todos) r
+on t.id = r.id
+when matched then update set display_order = r.rn * 1024;
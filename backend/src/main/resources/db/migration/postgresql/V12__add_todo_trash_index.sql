@@ -0,0 +1,3 @@
+-- 휴지통 행만 담는 부분 인덱스 (휴지통 조회/복원/정리용, 일반 행의 UPDATE는 이 인덱스를 건드리지 않음)
+create index idx_todos_trash on todos (member_id, deleted_at) where deleted_at is not null;
+create index idx_todos_trash_purge on todos (deleted_at) where deleted_at is not null;
@@ -0,0 +1,4 @@
+-- filter=active 조회 전용 부분 인덱스 (미완료 항목만 포함하여 크기가 작음)
+-- PostgreSQL 전용 (H2는 부분 인덱스 미지원)
+create index idx_todos_member_active on todos (member_id, display_order, created_at)
+    where completed = false;
@@ -0,0 +1,4 @@
+-- todos.id를 IDENTITY 대신 시퀀스(pooled, 50개 단위)로 발급하여 JDBC 배치 INSERT 가능하게 함
+-- pooled 옵티마이저는 시퀀스 값 v를 받아 (v-49 ~ v) 구간을 사용하므로 기존 최대 id + 50부터 시작
+create sequence todos_seq increment by 50;
+select setval('todos_seq', coalesce((select max(id) from todos), 0) + 50, false);
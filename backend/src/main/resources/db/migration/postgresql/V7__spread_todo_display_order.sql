@@ -0,0 +1,9 @@
+-- 드래그앤드롭 이동 시 한 행만 바꾸도록 display_order를 1024 간격으로 다시 매김
+-- (현재 정렬 순서 display_order asc, created_at desc, id desc 유지, 중복 값 제거)
+update todos t
+set display_order = r.rn * 1024
+from (select id,
+             row_number() over (partition by member_id
+                                order by display_order, created_at desc, id desc) as rn
+      from todos) r
+where t.id = r.id;
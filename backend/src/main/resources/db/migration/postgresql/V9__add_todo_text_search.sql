@@ -0,0 +1,12 @@
+-- 본문 검색 (GET /api/todos/search) 전용 인덱스, PostgreSQL 전용 (H2는 LIKE 스캔으로 대체)
+-- - text_search: 단어 단위 전문 검색용 tsvector (한글은 형태소 사전이 없으므로 'simple' 구성 사용)
+-- - gin_trgm_ops: 단어 중간 부분 문자열(ILIKE '%우유%') 검색용 trigram
+-- - btree_gin: member_id를 같은 GIN 인덱스에 넣어 회원 범위로 바로 좁힘
+create extension if not exists pg_trgm;
+create extension if not exists btree_gin;
+
+alter table todos
+    add column text_search tsvector generated always as (to_tsvector('simple', text)) stored;
+
+create index idx_todos_member_text_search on todos using gin (member_id, text_search);
+create index idx_todos_member_text_trgm on todos using gin (member_id, text gin_trgm_ops);
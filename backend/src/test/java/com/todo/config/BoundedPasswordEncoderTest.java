@@ -0,0 +1,91 @@
+package com.todo.config;
+
+import com.todo.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("새 해시는 {bcrypt} 형식이고, 접두어 없는 기존 해시도 검증하며 형식/cost가 다르면 재해시 대상이다")
+    void encodesWithIdAndAcceptsLegacyHashes() {
+        // given
+        PasswordEncoder encoder = new PasswordEncoderConfig()
+                .passwordEncoder(new PasswordHashingProperties(5, 1, 4, Duration.ofSeconds(5)), meterRegistry);
+        String legacy = new BCryptPasswordEncoder(4).encode("password123");
+
+        // when
+        String encoded = encoder.encode("password123");
+
+        // then
+        assertThat(encoded).startsWith("{bcrypt}$2a$05$");
+        assertThat(encoder.matches("password123", encoded)).isTrue();
+        assertThat(encoder.matches("password123", legacy)).isTrue();
+        assertThat(encoder.matches("wrong", legacy)).isFalse();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(4).encode("password123"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("해시 스레드가 모두 바쁘면 대기 시간 초과/대기열 초과 요청은 계산하지 않고 503으로 거절한다")
+    void rejectsWhenQueueTimesOutOrIsFull() throws Exception {
+        // given: 스레드 1개, 대기열 1개, 대기 한도 100ms
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                await(release);
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals("hash:" + rawPassword);
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking,
+                new PasswordHashingProperties(10, 1, 1, Duration.ofMillis(100)), meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then: 대기열에서 100ms 안에 시작하지 못함
+        assertThatThrownBy(() -> encoder.matches("second", "hash:second"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        // 포기한 작업이 아직 대기열 자리를 차지 → 즉시 거절
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        // 이미 시작한 작업은 한도를 넘겨도 끝까지 기다려 결과를 돌려준다
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:first");
+        assertThat(encoder.matches("fourth", "hash:fourth")).isTrue();
+        assertThat(encoder.encode("fifth")).isEqualTo("hash:fifth");
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(2);
+        encoder.close();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -13,9 +13,11 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JwtTokenProviderTest {
 
@@ -171,4 +173,80 @@ class JwtTokenProviderTest {
         assertThat(restoredAuth.getName()).isEqualTo("test@example.com");
         assertThat(restoredAuth.getAuthorities()).hasSize(1);
     }
+
+    @Test
+    @DisplayName("memberId claim이 있으면 MemberPrincipal로 복원")
+    void getAuthentication_WithMemberId_ReturnsMemberPrincipal() {
+        // given
+        Authentication authentication = createAuthentication("test@example.com");
+        String accessToken = jwtTokenProvider.generateAccessToken(authentication, 42L, null);
+
+        // when
+        Authentication restoredAuth = jwtTokenProvider.getAuthentication(accessToken);
+
+        // then
+        assertThat(restoredAuth.getPrincipal()).isInstanceOf(MemberPrincipal.class);
+        MemberPrincipal principal = (MemberPrincipal) restoredAuth.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(42L);
+        assertThat(principal.getEmail()).isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("authenticate는 검증과 복원을 한 번에 처리하고 불변 Authentication을 반환")
+    void authenticate_ValidToken_ReturnsImmutableAuthentication() {
+        // given
+        String accessToken = jwtTokenProvider.generateAccessToken(createAuthentication("test@example.com"), 42L, null);
+
+        // when
+        Authentication authentication = jwtTokenProvider.authenticate(accessToken);
+
+        // then
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication.getName()).isEqualTo("test@example.com");
+        assertThat(((MemberPrincipal) authentication.getPrincipal()).getId()).isEqualTo(42L);
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThatThrownBy(() -> authentication.setAuthenticated(false))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("authenticate는 잘못된 토큰과 만료된 토큰에 null 반환")
+    void authenticate_InvalidOrExpiredToken_ReturnsNull() {
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET_KEY, -1000L, REFRESH_TOKEN_VALIDITY);
+        String expired = expiredProvider.generateAccessToken(createAuthentication("test@example.com"), 1L, null);
+
+        assertThat(jwtTokenProvider.authenticate("invalid-token")).isNull();
+        assertThat(jwtTokenProvider.authenticate(expired)).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시 사용 시 같은 토큰은 검증 없이 같은 Authentication 반환")
+    void authenticate_WithCache_ReturnsCachedAuthentication() {
+        // given
+        JwtTokenProvider cachingProvider = new JwtTokenProvider(SECRET_KEY, ACCESS_TOKEN_VALIDITY,
+                REFRESH_TOKEN_VALIDITY, 100, Duration.ofMinutes(5));
+        String accessToken = cachingProvider.generateAccessToken(createAuthentication("test@example.com"), 1L, null);
+        String otherToken = cachingProvider.generateAccessToken(createAuthentication("other@example.com"), 2L, null);
+
+        // when
+        Authentication first = cachingProvider.authenticate(accessToken);
+        Authentication second = cachingProvider.authenticate(accessToken);
+        Authentication other = cachingProvider.authenticate(otherToken);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(other.getName()).isEqualTo("other@example.com");
+        assertThat(cachingProvider.authenticate(accessToken + "x")).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시 항목은 ttl과 토큰 만료 중 빠른 시각에 만료")
+    void expireAfterNanos_BoundedByTokenExpiration() {
+        Duration ttl = Duration.ofMinutes(5);
+        long now = 1_000_000L;
+
+        assertThat(JwtTokenProvider.expireAfterNanos(ttl, now + 60_000, now)).isEqualTo(Duration.ofMinutes(1).toNanos());
+        assertThat(JwtTokenProvider.expireAfterNanos(ttl, now + 3_600_000, now)).isEqualTo(ttl.toNanos());
+        assertThat(JwtTokenProvider.expireAfterNanos(ttl, now - 1, now)).isZero();
+    }
 }
@@ -0,0 +1,214 @@
+package com.todo.config;
+
+import com.todo.TodoApplication;
+import com.todo.entity.Member;
+import com.todo.entity.Todo;
+import com.todo.repository.MemberRepository;
+import com.todo.repository.RefreshTokenRepository;
+import com.todo.repository.TodoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 폭주 중 Todo 조회 지연 비교
+ *
+ * CRUD_CLIENTS개 연결이 MEASURE 동안 GET /api/todos를 반복하는 사이 STORM_CLIENTS개 연결이 로그인을 계속 보낸다.
+ * (로그인 클라이언트는 503을 받으면 REJECT_BACKOFF 뒤 다시 보냄: 부하 생성기와 서버가 같은 머신이라
+ *  거절 응답을 쉬지 않고 반복하면 측정 대상이 아닌 HTTP 처리에 CPU를 다 쓰게 됨)
+ * - bounded: 해시 전용 스레드 1개 (기본 구성과 같은 방식)
+ * - unbounded: 해시 스레드를 Tomcat 스레드 수만큼 (요청 스레드에서 바로 해시하던 이전 구성과 같은 CPU 사용)
+ * bounded에서는 해시가 코어 1개만 쓰므로 코어가 여러 개면 조회 p99가 폭주 전과 거의 같다.
+ * 코어가 1개뿐인 환경에서는 해시 스레드와 CPU를 나눠 쓰므로 폭주 전보다는 늘어나며,
+ * 여기서는 unbounded 대비 크게(1/5 미만) 낮은지만 검증한다.
+ * 실행: ./gradlew benchmark --tests '*LoginStormBenchmarkTest*'
+ */
+@Tag("benchmark")
+class LoginStormBenchmarkTest {
+
+    private static final int TOMCAT_MAX_THREADS = 50;
+    private static final int CRUD_CLIENTS = 8;
+    private static final Duration MEASURE = Duration.ofSeconds(20);
+    private static final Duration REJECT_BACKOFF = Duration.ofMillis(200);
+    private static final int STORM_CLIENTS = 100;
+    private static final int BCRYPT_STRENGTH = 10;
+    private static final String PASSWORD = "password123";
+
+    @Test
+    @DisplayName("로그인 폭주 중 Todo 조회 p99: 해시 전용 풀(bounded) vs 요청 스레드 수만큼(unbounded)")
+    void crudLatencyDuringLoginStorm() throws Exception {
+        Result bounded = run("bounded", 1, 4);
+        Result unbounded = run("unbounded", TOMCAT_MAX_THREADS, 10_000);
+        System.out.println(bounded);
+        System.out.println(unbounded);
+
+        assertThat(bounded.stormP99Millis()).isLessThan(unbounded.stormP99Millis() / 5);
+        assertThat(bounded.loginRejected()).isPositive();
+    }
+
+    private Result run(String mode, int hashThreads, int queueCapacity) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                TodoApplication.class, BenchmarkBeans.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        "server.tomcat.accept-count=" + (STORM_CLIENTS + CRUD_CLIENTS),
+                        "spring.datasource.hikari.maximum-pool-size=10",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.com.todo=WARN",
+                        "app.password-hashing.bcrypt-strength=" + BCRYPT_STRENGTH,
+                        "app.password-hashing.threads=" + hashThreads,
+                        "app.password-hashing.queue-capacity=" + queueCapacity,
+                        "app.password-hashing.queue-timeout=1s")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            // 두 번의 실행이 같은 메모리 DB를 쓰므로 회원을 모드별로 구분
+            String email = "storm-" + mode + "@example.com";
+            Member member = context.getBean(MemberRepository.class).save(Member.builder()
+                    .email(email)
+                    .password(context.getBean(PasswordEncoder.class).encode(PASSWORD))
+                    .nickname("storm")
+                    .role(Member.Role.USER)
+                    .build());
+            TodoRepository todoRepository = context.getBean(TodoRepository.class);
+            for (int i = 0; i < 20; i++) {
+                todoRepository.save(Todo.builder().text("todo " + i).displayOrder(i).member(member).build());
+            }
+            String token = context.getBean(JwtTokenProvider.class).generateAccessToken(
+                    new UsernamePasswordAuthenticationToken(member.getEmail(), null,
+                            List.of(new SimpleGrantedAuthority("ROLE_USER"))), member.getId(), null);
+
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            HttpRequest list = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/todos"))
+                    .header("Authorization", "Bearer " + token)
+                    .build();
+            HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+                    .build();
+
+            crud(http, list, Duration.ofSeconds(5)); // 워밍업
+            long baselineP99 = p99(crud(http, list, MEASURE));
+
+            AtomicBoolean storming = new AtomicBoolean(true);
+            ConcurrentHashMap<Integer, AtomicInteger> loginStatuses = new ConcurrentHashMap<>();
+            List<CompletableFuture<Void>> storm = new ArrayList<>();
+            for (int i = 0; i < STORM_CLIENTS; i++) {
+                storm.add(loginLoop(http, login, storming, loginStatuses));
+            }
+            Thread.sleep(1_000);
+            long stormP99 = p99(crud(http, list, MEASURE));
+            storming.set(false);
+            CompletableFuture.allOf(storm.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+
+            return new Result(mode, hashThreads, baselineP99, stormP99,
+                    count(loginStatuses, 200), count(loginStatuses, 503));
+        }
+    }
+
+    /**
+     * CRUD_CLIENTS개 연결이 duration 동안 각자 이전 응답을 받은 뒤 다음 요청을 보냄
+     */
+    private long[] crud(HttpClient http, HttpRequest request, Duration duration) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CRUD_CLIENTS);
+        long deadline = System.nanoTime() + duration.toNanos();
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int c = 0; c < CRUD_CLIENTS; c++) {
+                futures.add(executor.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies.add(System.nanoTime() - start);
+                        assertThat(response.statusCode()).isEqualTo(200);
+                    }
+                    return latencies;
+                }));
+            }
+            List<Long> all = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                all.addAll(future.get(5, TimeUnit.MINUTES));
+            }
+            return all.stream().mapToLong(Long::longValue).toArray();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private CompletableFuture<Void> loginLoop(HttpClient http, HttpRequest request, AtomicBoolean storming,
+                                              ConcurrentHashMap<Integer, AtomicInteger> statuses) {
+        if (!storming.get()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenCompose(response -> {
+                    statuses.computeIfAbsent(response.statusCode(), code -> new AtomicInteger()).incrementAndGet();
+                    if (response.statusCode() == 503) {
+                        return CompletableFuture.runAsync(() -> { },
+                                        CompletableFuture.delayedExecutor(REJECT_BACKOFF.toMillis(), TimeUnit.MILLISECONDS))
+                                .thenCompose(ignored -> loginLoop(http, request, storming, statuses));
+                    }
+                    return loginLoop(http, request, storming, statuses);
+                });
+    }
+
+    private static long p99(long[] latencies) {
+        Arrays.sort(latencies);
+        return TimeUnit.NANOSECONDS.toMillis(latencies[(int) (latencies.length * 0.99) - 1]);
+    }
+
+    private static int count(ConcurrentHashMap<Integer, AtomicInteger> statuses, int status) {
+        AtomicInteger count = statuses.get(status);
+        return count != null ? count.get() : 0;
+    }
+
+    private record Result(String mode, int hashThreads, long baselineP99Millis, long stormP99Millis,
+                          int loginOk, int loginRejected) {
+
+        @Override
+        public String toString() {
+            return String.format("[%s] hashThreads=%d, bcrypt=%d, crudClients=%d, stormClients=%d, "
+                            + "crud p99 baseline=%dms, during storm=%dms, logins ok=%d, 503=%d",
+                    mode, hashThreads, BCRYPT_STRENGTH, CRUD_CLIENTS, STORM_CLIENTS,
+                    baselineP99Millis, stormP99Millis, loginOk, loginRejected);
+        }
+    }
+
+    static class BenchmarkBeans {
+
+        @Bean
+        RefreshTokenRepository refreshTokenRepository() {
+            return Mockito.mock(RefreshTokenRepository.class);
+        }
+    }
+}
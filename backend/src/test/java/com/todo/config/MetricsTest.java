@@ -0,0 +1,137 @@
+package com.todo.config;
+
+import com.todo.entity.Member;
+import com.todo.entity.Todo;
+import com.todo.repository.MemberRepository;
+import com.todo.repository.MemberTodoCounterRepository;
+import com.todo.repository.RefreshTokenRepository;
+import com.todo.repository.TodoRepository;
+import com.todo.service.TodoService;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트/서비스/리포지토리/Hibernate/Hikari 메트릭이 기록되고 Prometheus로 노출되며,
+ * 회원/Todo id가 태그 값으로 들어가지 않음을 검증
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "management.endpoints.web.exposure.include=prometheus"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@Import(TestSecurityConfig.class)
+class MetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private MemberTodoCounterRepository counterRepository;
+
+    @MockBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("metrics@example.com")
+                .password("password")
+                .nickname("metrics")
+                .role(Member.Role.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        counterRepository.deleteAll();
+        todoRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("요청 처리 경로의 타이머가 경로 템플릿/메서드 이름 태그로만 기록된다")
+    void requestPath_RecordsBoundedMeters() throws Exception {
+        Long todoId = todoRepository.save(Todo.builder().text("Measure me").member(member).build()).getId();
+        String token = accessToken(member);
+
+        mockMvc.perform(patch("/api/todos/" + todoId + "/toggle").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/todos/" + todoId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertThat(meterRegistry.find("http.server.requests").tag("uri", "/api/todos/{id}/toggle").timer())
+                .isNotNull();
+        assertThat(meterRegistry.find("todo.service").tags("class", TodoService.class.getName(), "method", "toggleComplete")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("spring.data.repository.invocations").tag("repository", "TodoRepository")
+                .timers()).isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.statements").functionCounters()).isNotEmpty();
+        assertThat(meterRegistry.find("hikaricp.connections.max").gauge()).isNotNull();
+
+        List<String> idValues = List.of(String.valueOf(todoId), String.valueOf(member.getId()));
+        for (Meter meter : meterRegistry.getMeters()) {
+            for (Tag tag : meter.getId().getTags()) {
+                assertThat(tag.getValue()).as(meter.getId().toString())
+                        .doesNotContain("/" + todoId)
+                        .isNotIn(idValues);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Prometheus 엔드포인트로 서비스 타이머와 풀 메트릭을 노출한다")
+    void prometheusEndpoint_ExposesMeters() throws Exception {
+        mockMvc.perform(get("/api/todos").header("Authorization", "Bearer " + accessToken(member)))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape).contains("todo_service_seconds_count{");
+        assertThat(scrape).contains("http_server_requests_seconds_count{");
+        assertThat(scrape).contains("hikaricp_connections_max{");
+    }
+
+    private String accessToken(Member target) {
+        var authentication = new UsernamePasswordAuthenticationToken(
+                target.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return jwtTokenProvider.generateAccessToken(authentication, target.getId(), null);
+    }
+}
@@ -1,7 +1,6 @@
 package com.todo.config;
 
 import com.todo.entity.Member;
-import com.todo.entity.RefreshToken;
 import com.todo.repository.MemberRepository;
 import com.todo.repository.RefreshTokenRepository;
 import jakarta.servlet.http.HttpServletRequest;
@@ -89,7 +88,7 @@ class OAuth2SuccessHandlerTest {
         given(authentication.getPrincipal()).willReturn(oAuth2User);
         given(oAuth2User.getAttributes()).willReturn(Map.of("email", "test@example.com"));
         given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(testMember));
-        given(jwtTokenProvider.generateAccessToken(any(), anyString())).willReturn("access-token");
+        given(jwtTokenProvider.generateAccessToken(any(), anyLong(), anyString())).willReturn("access-token");
         given(jwtTokenProvider.generateRefreshToken()).willReturn("refresh-token");
         given(jwtTokenProvider.getRefreshTokenValidity()).willReturn(1209600000L);
         given(appProperties.getAuthorizedRedirectUri()).willReturn("http://localhost:3000/auth/oauth/callback");
@@ -158,7 +157,7 @@ class OAuth2SuccessHandlerTest {
         given(authentication.getPrincipal()).willReturn(oAuth2User);
         given(oAuth2User.getAttributes()).willReturn(Map.of("email", "test@example.com"));
         given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(testMember));
-        given(jwtTokenProvider.generateAccessToken(any(), anyString())).willReturn("access-token");
+        given(jwtTokenProvider.generateAccessToken(any(), anyLong(), anyString())).willReturn("access-token");
         given(jwtTokenProvider.generateRefreshToken()).willReturn("refresh-token");
         given(jwtTokenProvider.getRefreshTokenValidity()).willReturn(1209600000L);
         given(appProperties.getAuthorizedRedirectUri()).willReturn("http://localhost:3000/auth/oauth/callback");
@@ -169,10 +168,6 @@ class OAuth2SuccessHandlerTest {
         oAuth2SuccessHandler.onAuthenticationSuccess(request, response, authentication);
 
         // then
-        ArgumentCaptor<RefreshToken> tokenCaptor = ArgumentCaptor.forClass(RefreshToken.class);
-        verify(refreshTokenRepository).save(tokenCaptor.capture());
-
-        RefreshToken savedToken = tokenCaptor.getValue();
-        assertThat(savedToken.getRefreshToken()).isEqualTo("refresh-token");
+        verify(refreshTokenRepository).issue(testMember.getId(), "refresh-token", 1209600000L);
     }
 }
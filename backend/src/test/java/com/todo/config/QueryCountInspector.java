@@ -0,0 +1,37 @@
+package com.todo.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 SQL 수집기
+ *
+ * hibernate.session_factory.statement_inspector로 등록하면
+ * Hibernate가 실행하는 모든 SQL을 기록하여 요청당 쿼리 수를 검증할 수 있다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    public static long count(String keyword) {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase().contains(keyword.toLowerCase()))
+                .count();
+    }
+}
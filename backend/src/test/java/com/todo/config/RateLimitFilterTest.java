@@ -0,0 +1,135 @@
+package com.todo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.dto.AuthRequest;
+import com.todo.repository.RefreshTokenRepository;
+import com.todo.service.AuthService;
+import com.todo.service.TodoService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 속도 제한 필터: 로그인 IP/계정 버킷, Todo 회원 버킷, 429 + Retry-After 응답 검증 (Redis 없이 메모리 버킷)
+ */
+@SpringBootTest(properties = {
+        "app.rate-limit.enabled=true",
+        "app.rate-limit.refill-period=1h",
+        "app.rate-limit.auth-ip-capacity=3",
+        "app.rate-limit.auth-account-capacity=2",
+        "app.rate-limit.todo-member-capacity=2",
+        // 검증 횟수를 세기 위해 토큰 검증 캐시를 끔
+        "jwt.authentication-cache.max-size=0"
+})
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpyBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private TodoService todoService;
+
+    @MockBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    @DisplayName("같은 계정으로 반복 로그인하면 계정 버킷이 비어 429와 Retry-After로 응답하고, 본문은 컨트롤러까지 그대로 전달된다")
+    void login_AccountBucketExhausted_Returns429() throws Exception {
+        login("10.0.0.1", "Victim@example.com").andExpect(status().isOk());
+        login("10.0.0.2", "victim@example.com").andExpect(status().isOk());
+
+        login("10.0.0.3", "victim@example.com")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        verify(authService, times(2)).login(any(AuthRequest.class));
+    }
+
+    @Test
+    @DisplayName("한 IP에서 여러 계정으로 시도하면 IP 버킷이 비어 429로 응답한다")
+    void login_IpBucketExhausted_Returns429() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            login("10.0.1.1", "user" + i + "@example.com").andExpect(status().isOk());
+        }
+
+        login("10.0.1.1", "user9@example.com").andExpect(status().isTooManyRequests());
+        login("10.0.1.2", "user9@example.com").andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Todo 요청은 회원별 버킷으로 제한하여 다른 회원에게 영향을 주지 않는다")
+    void todos_MemberBucket_IsolatesMembers() throws Exception {
+        String alice = accessToken(101L, "alice@example.com");
+        String bob = accessToken(102L, "bob@example.com");
+
+        search(alice).andExpect(status().isOk());
+        search(alice).andExpect(status().isOk());
+        search(alice).andExpect(status().isTooManyRequests()).andExpect(header().exists("Retry-After"));
+
+        search(bob).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("속도 제한 필터가 검증한 토큰은 인증 필터에서 다시 검증하지 않는다")
+    void todos_TokenIsVerifiedOncePerRequest() throws Exception {
+        String carol = accessToken(103L, "carol@example.com");
+
+        search(carol).andExpect(status().isOk());
+
+        verify(jwtTokenProvider, times(1)).authenticate(carol);
+    }
+
+    private ResultActions login(String ip, String email) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .with(request -> {
+                    request.setRemoteAddr(ip);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AuthRequest(email, "password123", null))));
+    }
+
+    private ResultActions search(String token) throws Exception {
+        return mockMvc.perform(get("/api/todos/search").param("q", "milk")
+                .header("Authorization", "Bearer " + token));
+    }
+
+    private String accessToken(Long memberId, String email) {
+        var authentication = new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return jwtTokenProvider.generateAccessToken(authentication, memberId, null);
+    }
+}
@@ -0,0 +1,128 @@
+package com.todo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 속도 제한 필터 부하 측정 (실제 Redis 필요: REDIS_HOST/REDIS_PORT, 기본 localhost:6379)
+ *
+ * THREADS개 스레드가 로그인 요청(IP + 계정 버킷 2개)을 REQUESTS건 보내고,
+ * Redis INFO의 처리 명령 수 증가분이 요청 수와 같음(요청당 왕복 1회)을 확인한 뒤 필터 지연 p50/p99를 출력한다.
+ * Redis에 연결할 수 없으면 건너뛴다.
+ * 실행: ./gradlew benchmark --tests '*RateLimitLoadBenchmarkTest*'
+ */
+@Tag("benchmark")
+class RateLimitLoadBenchmarkTest {
+
+    private static final int THREADS = 32;
+    private static final int REQUESTS = 50_000;
+    private static final int ACCOUNTS = 1_000;
+
+    @Test
+    @DisplayName("요청당 Redis 명령 1회(EVALSHA)로 IP/계정 버킷을 함께 처리한다")
+    void oneRoundTripPerRequest() throws Exception {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"))));
+        connectionFactory.afterPropertiesSet();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        try {
+            assumeTrue(ping(redisTemplate), "Redis에 연결할 수 없어 건너뜀");
+            run(redisTemplate);
+        } finally {
+            connectionFactory.destroy();
+        }
+    }
+
+    private void run(StringRedisTemplate redisTemplate) throws Exception {
+        RateLimitProperties properties = new RateLimitProperties(true, true, "bench:rate:" + System.nanoTime() + ":",
+                Duration.ofMinutes(1), 1_000_000, 1_000_000, 1_000_000, Duration.ofSeconds(5), 100_000);
+        RateLimitFilter filter = new RateLimitFilter(new RateLimiter(redisTemplate, properties, new SimpleMeterRegistry()),
+                null, new ObjectMapper(), properties);
+
+        // 스크립트 캐시 적재 (첫 호출은 NOSCRIPT → EVAL 재시도)
+        filter.doFilter(loginRequest(0), new MockHttpServletResponse(), new MockFilterChain());
+
+        long commandsBefore = commandsProcessed(redisTemplate);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long started = System.nanoTime();
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                int perThread = REQUESTS / THREADS;
+                long[] latencies = new long[perThread];
+                for (int i = 0; i < perThread; i++) {
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    long start = System.nanoTime();
+                    filter.doFilter(loginRequest(thread * perThread + i), response, new MockFilterChain());
+                    latencies[i] = System.nanoTime() - start;
+                    assertThat(response.getStatus()).isEqualTo(200);
+                }
+                return latencies;
+            }));
+        }
+        List<Long> all = new ArrayList<>(REQUESTS);
+        for (Future<long[]> future : futures) {
+            Arrays.stream(future.get()).forEach(all::add);
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+        // INFO 호출 자체(1회)는 증가분에서 제외
+        long commands = commandsProcessed(redisTemplate) - commandsBefore - 1;
+
+        all.sort(null);
+        System.out.printf("requests=%d, redisCommands=%d (%.2f/request), throughput=%.0f req/s, p50=%.2fms, p99=%.2fms%n",
+                all.size(), commands, (double) commands / all.size(), all.size() / (elapsed / 1e9),
+                all.get(all.size() / 2) / 1e6, all.get((int) (all.size() * 0.99)) / 1e6);
+
+        assertThat(commands).isEqualTo(all.size());
+    }
+
+    private static MockHttpServletRequest loginRequest(int n) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr("10.1." + (n % 200) + "." + (n % 250));
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"user" + (n % ACCOUNTS) + "@example.com\",\"password\":\"password\"}")
+                .getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static boolean ping(StringRedisTemplate redisTemplate) {
+        try {
+            return "PONG".equals(redisTemplate.execute((RedisCallback<String>) connection -> connection.ping()));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static long commandsProcessed(StringRedisTemplate redisTemplate) {
+        Properties stats = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("stats"));
+        return Long.parseLong(stats.getProperty("total_commands_processed"));
+    }
+}
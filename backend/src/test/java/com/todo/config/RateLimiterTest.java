@@ -0,0 +1,100 @@
+package com.todo.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<RateLimiter.Limit> limits = List.of(
+            new RateLimiter.Limit("auth-ip:10.0.0.1", 3),
+            new RateLimiter.Limit("auth-account:user@example.com", 2));
+
+    @Test
+    @DisplayName("요청의 모든 버킷을 스크립트 한 번(Redis 왕복 1회)으로 검사한다")
+    void tryAcquire_EvaluatesAllBucketsInOneScriptCall() {
+        // given
+        RateLimiter limiter = new RateLimiter(redisTemplate, properties(true), meterRegistry);
+        given(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class))).willReturn(0L, 1500L);
+
+        // when
+        long first = limiter.tryAcquire(limits);
+        long second = limiter.tryAcquire(limits);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1500L);
+        verify(redisTemplate, times(2)).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of("rate:auth-ip:10.0.0.1", "rate:auth-account:user@example.com")),
+                eq("60000"), eq("3"), eq("2"));
+    }
+
+    @Test
+    @DisplayName("Redis 호출이 실패하면 메모리 버킷으로 판단하고 재시도 간격 동안 Redis를 건너뛴다")
+    void tryAcquire_RedisDown_FallsBackToLocalBuckets() {
+        // given
+        RateLimiter limiter = new RateLimiter(redisTemplate, properties(true), meterRegistry);
+        given(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when: 계정 버킷(2개)이 먼저 빈다
+        long first = limiter.tryAcquire(limits);
+        long second = limiter.tryAcquire(limits);
+        long third = limiter.tryAcquire(limits);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isPositive().isLessThanOrEqualTo(30_000);
+        verify(redisTemplate, times(1)).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class));
+        assertThat(meterRegistry.get("rate.limit.fallback").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("rate.limit.redis.errors").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거절된 요청은 다른 버킷의 토큰도 차감하지 않는다")
+    void tryAcquire_Rejected_DoesNotConsumeOtherBuckets() {
+        // given
+        RateLimiter limiter = new RateLimiter(redisTemplate, properties(false), meterRegistry);
+        RateLimiter.Limit ip = new RateLimiter.Limit("auth-ip:10.0.0.1", 3);
+        limiter.tryAcquire(limits);
+        limiter.tryAcquire(limits);
+
+        // when: 계정 버킷이 비어 거절 → IP 버킷은 1개 남아 있어야 함
+        long rejected = limiter.tryAcquire(limits);
+
+        // then
+        assertThat(rejected).isPositive();
+        assertThat(limiter.tryAcquire(List.of(ip))).isZero();
+        assertThat(limiter.tryAcquire(List.of(ip))).isPositive();
+    }
+
+    private RateLimitProperties properties(boolean redis) {
+        return new RateLimitProperties(true, redis, "rate:", Duration.ofMinutes(1),
+                3, 2, 5, Duration.ofSeconds(30), 1000);
+    }
+}
@@ -0,0 +1,255 @@
+package com.todo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.dto.TodoResponse;
+import com.todo.entity.Member;
+import com.todo.entity.Todo;
+import com.todo.repository.MemberRepository;
+import com.todo.repository.RefreshTokenRepository;
+import com.todo.repository.TodoRepository;
+import com.todo.service.TodoListCache;
+import com.todo.service.TodoService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 두 개의 로컬 DB(primary/replica)로 라우팅 검증
+ *
+ * 같은 id의 Todo를 두 DB에 서로 다른 내용으로 넣어, 조회 결과로 어느 DB에서 읽었는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "app.datasource.replicas[0].jdbc-url=" + ReplicaRoutingTest.REPLICA_URL,
+        "app.datasource.replicas[0].username=sa",
+        "app.datasource.replicas[0].password=",
+        "app.datasource.replicas[0].maximum-pool-size=2",
+        "app.datasource.read-your-writes-window=500ms"
+})
+@Import(TestSecurityConfig.class)
+class ReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate primary;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource replicaDataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure()
+                .dataSource(replicaDataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        replica = new JdbcTemplate(replicaDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        for (JdbcTemplate db : List.of(primary, replica)) {
+            db.update("delete from todos");
+            db.update("delete from member_todo_counters");
+            db.update("delete from members");
+        }
+    }
+
+    @Test
+    @DisplayName("읽기 전용 조회는 복제본, 변경은 primary로 가고 변경 직후 같은 회원의 조회는 primary에서 읽는다")
+    void routesReadsToReplicaAndPinsAfterWrite() throws Exception {
+        Member alice = saveMember("alice@example.com");
+        Member bob = saveMember("bob@example.com");
+        Long aliceTodo = saveTodo(alice, "primary-alice");
+        Long bobTodo = saveTodo(bob, "primary-bob");
+        replicate(alice, aliceTodo, "replica-alice");
+        replicate(bob, bobTodo, "replica-bob");
+
+        // 읽기 전용 트랜잭션 → 복제본
+        loginAs(alice);
+        assertThat(todoService.findById(aliceTodo).getText()).isEqualTo("replica-alice");
+
+        // 쓰기 → primary (복제본은 그대로)
+        assertThat(todoService.toggleComplete(aliceTodo).getCompleted()).isTrue();
+        assertThat(primary.queryForObject("select completed from todos where id = ?", Boolean.class, aliceTodo))
+                .isTrue();
+        assertThat(replica.queryForObject("select completed from todos where id = ?", Boolean.class, aliceTodo))
+                .isFalse();
+
+        // 변경 직후 같은 회원의 조회는 primary, 다른 회원은 계속 복제본
+        assertThat(todoService.findById(aliceTodo).getText()).isEqualTo("primary-alice");
+        loginAs(bob);
+        assertThat(todoService.findById(bobTodo).getText()).isEqualTo("replica-bob");
+
+        // window가 지나면 다시 복제본
+        Thread.sleep(700);
+        loginAs(alice);
+        assertThat(todoService.findById(aliceTodo).getText()).isEqualTo("replica-alice");
+    }
+
+    @Test
+    @DisplayName("무효화 뒤 캐시 미스는 primary에서 읽어 채우고, 이미 복제본으로 읽은 트랜잭션의 결과는 캐시에 저장하지 않는다")
+    void cacheMissIsNotFilledFromLaggingReplica() {
+        Member alice = saveMember("alice@example.com");
+        Long todoId = saveTodo(alice, "primary-alice");
+        replicate(alice, todoId, "replica-alice");
+        loginAs(alice);
+
+        // 무효화 직후(gen=1, 목록 필드 없음) 다른 노드처럼 read-your-writes 고정이 없는 상태
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        HashOperations<String, Object, Object> hashOperations = mock();
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.multiGet("todos:" + alice.getId(), List.of("all", "gen")))
+                .willReturn(Arrays.asList(null, "1"));
+        TodoListCache cache = new TodoListCache(redisTemplate, objectMapper,
+                new TodoCacheProperties(true, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // 트랜잭션의 첫 조회가 캐시 미스 → primary에서 읽어 저장
+        List<TodoResponse> loaded = readOnly.execute(status ->
+                cache.get(alice.getId(), "all", () -> todoRepository.findAllSorted(alice.getId())));
+        assertThat(loaded).extracting(TodoResponse::getText).containsExactly("primary-alice");
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("todos:" + alice.getId())),
+                eq("1"), eq("all"), contains("primary-alice"), anyString());
+
+        // 같은 트랜잭션에서 먼저 복제본을 읽었다면 미스 결과는 돌려주기만 하고 저장하지 않음
+        StringRedisTemplate laggingRedis = mock(StringRedisTemplate.class);
+        given(laggingRedis.<Object, Object>opsForHash()).willReturn(hashOperations);
+        TodoListCache laggingCache = new TodoListCache(laggingRedis, objectMapper,
+                new TodoCacheProperties(true, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+        List<TodoResponse> stale = readOnly.execute(status -> {
+            assertThat(todoService.findById(todoId).getText()).isEqualTo("replica-alice");
+            return laggingCache.get(alice.getId(), "all", () -> todoRepository.findAllSorted(alice.getId()));
+        });
+        assertThat(stale).extracting(TodoResponse::getText).containsExactly("replica-alice");
+        verify(laggingRedis, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("primary와 복제본 풀은 각자의 Hikari 설정과 메트릭을 가진다")
+    void eachPoolHasOwnSettings() {
+        assertThat(meterRegistry.get("hikaricp.connections.max").tag("pool", "primary").gauge().value())
+                .isEqualTo(4);
+        assertThat(meterRegistry.get("hikaricp.connections.max").tag("pool", "replica-1").gauge().value())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("설정 빈이 종료되면 직접 만든 복제본 풀도 닫힌다")
+    void closesReplicaPoolsOnShutdown() {
+        HikariConfig replicaConfig = new HikariConfig();
+        replicaConfig.setJdbcUrl(REPLICA_URL);
+        replicaConfig.setUsername("sa");
+        replicaConfig.setPoolName("replica-shutdown");
+        ReplicaDataSourceProperties properties =
+                new ReplicaDataSourceProperties(List.of(replicaConfig), Duration.ofSeconds(1), 10);
+        DataSourceRoutingConfig config = new DataSourceRoutingConfig();
+
+        try (HikariDataSource primaryPool = new HikariDataSource()) {
+            primaryPool.setJdbcUrl(REPLICA_URL);
+            primaryPool.setUsername("sa");
+            LazyConnectionDataSourceProxy dataSource = (LazyConnectionDataSourceProxy) config.dataSource(
+                    primaryPool, properties, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+            ReplicaRoutingDataSource routing = (ReplicaRoutingDataSource) dataSource.getTargetDataSource();
+            HikariDataSource replicaPool = (HikariDataSource) routing.getResolvedDataSources().get("replica-1");
+            assertThat(replicaPool.isClosed()).isFalse();
+
+            config.destroy();
+
+            assertThat(replicaPool.isClosed()).isTrue();
+        }
+    }
+
+    private Member saveMember(String email) {
+        return memberRepository.save(Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("routing")
+                .role(Member.Role.USER)
+                .build());
+    }
+
+    private Long saveTodo(Member member, String text) {
+        return todoRepository.save(Todo.builder().text(text).member(member).build()).getId();
+    }
+
+    /**
+     * 복제본에 같은 id의 행을 다른 내용으로 복사
+     */
+    private void replicate(Member member, Long todoId, String text) {
+        replica.update("insert into members (id, email, password, nickname, role, provider) values (?, ?, ?, ?, ?, ?)",
+                member.getId(), member.getEmail(), "password", "routing", "USER", "LOCAL");
+        replica.update("insert into todos (id, text, completed, display_order, member_id) values (?, ?, false, 0, ?)",
+                todoId, text, member.getId());
+    }
+
+    private void loginAs(Member member) {
+        MemberPrincipal principal = new MemberPrincipal(member.getId(), member.getEmail(),
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.todo.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadConfigTest {
+
+    @Test
+    @DisplayName("Java 21 미만에서 가상 스레드 모드를 켜면 시작을 실패시킨다")
+    void requireJavaVersion() {
+        assertThatThrownBy(() -> VirtualThreadConfig.requireJavaVersion(17))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Java 21");
+        assertThatCode(() -> VirtualThreadConfig.requireJavaVersion(21)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("synchronized로 I/O를 감싸는 pgjdbc 42.6 미만은 거부한다")
+    void requirePinningSafeDriver() {
+        assertThatThrownBy(() -> VirtualThreadConfig.requirePinningSafeDriver("PostgreSQL JDBC Driver", 42, 5))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("42.6.0");
+        assertThatCode(() -> VirtualThreadConfig.requirePinningSafeDriver("PostgreSQL JDBC Driver", 42, 6))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> VirtualThreadConfig.requirePinningSafeDriver("H2 JDBC Driver", 2, 2))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,178 @@
+package com.todo.config;
+
+import com.todo.TodoApplication;
+import com.todo.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 요청 처리 비교 (같은 Hikari 풀 크기)
+ *
+ * 각 요청은 IO_LATENCY_MS 동안 블로킹 I/O(Redis/외부 호출 대용) 후 짧은 JDBC 쿼리를 실행한다.
+ * CLIENTS개의 연결이 동시에 PER_CLIENT번씩 요청하며, p99 지연과 서버가 동시에 처리한 요청 수(최대)를 비교한다.
+ * 가상 스레드 측정은 JDK 21에서만 실행된다.
+ * 실행: ./gradlew benchmark (가상 스레드 포함: ./gradlew benchmark -Pvirtual)
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int POOL_SIZE = 10;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int CLIENTS = 1_000;
+    private static final int PER_CLIENT = 5;
+    private static final long IO_LATENCY_MS = 20;
+
+    private static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+    private static final AtomicInteger PEAK = new AtomicInteger();
+
+    @Test
+    @DisplayName("동시 1,000 연결: 플랫폼 스레드 vs 가상 스레드 p99/최대 동시 처리 수")
+    void platformVsVirtual() throws Exception {
+        Result platform = run(false);
+        System.out.println(platform);
+        assertThat(platform.peakConcurrency()).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+
+        assumeTrue(Runtime.version().feature() >= VirtualThreadConfig.MIN_JAVA_VERSION,
+                "가상 스레드 측정은 JDK 21 이상에서 실행 (./gradlew benchmark -Pvirtual)");
+
+        Result virtual = run(true);
+        System.out.println(virtual);
+        assertThat(virtual.peakConcurrency()).isGreaterThan(TOMCAT_MAX_THREADS);
+        assertThat(virtual.p99Millis()).isLessThan(platform.p99Millis());
+    }
+
+    private Result run(boolean virtual) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                TodoApplication.class, LoadTestEndpoints.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        "server.tomcat.accept-count=" + CLIENTS,
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/load-test/io")).build();
+
+            load(http, request, 100, 2); // 워밍업
+            PEAK.set(0);
+
+            long[] latencies = new long[CLIENTS * PER_CLIENT];
+            AtomicInteger recorded = new AtomicInteger();
+            long start = System.nanoTime();
+            List<CompletableFuture<Void>> clients = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(client(http, request, PER_CLIENT, latencies, recorded));
+            }
+            CompletableFuture.allOf(clients.toArray(CompletableFuture[]::new)).get(5, TimeUnit.MINUTES);
+            long elapsed = System.nanoTime() - start;
+
+            double pinned = virtual ? context.getBean(VirtualThreadPinningMonitor.class).getPinnedCount() : 0;
+            Arrays.sort(latencies);
+            return new Result(virtual ? "virtual" : "platform",
+                    millis(latencies[latencies.length / 2]),
+                    millis(latencies[(int) (latencies.length * 0.99) - 1]),
+                    millis(latencies[latencies.length - 1]),
+                    PEAK.get(),
+                    latencies.length * 1e9 / elapsed,
+                    (long) pinned);
+        }
+    }
+
+    private void load(HttpClient http, HttpRequest request, int clients, int perClient) throws Exception {
+        long[] ignored = new long[clients * perClient];
+        AtomicInteger recorded = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            futures.add(client(http, request, perClient, ignored, recorded));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 연결 하나가 이전 응답을 받은 뒤 다음 요청을 보내는 클라이언트
+     */
+    private CompletableFuture<Void> client(HttpClient http, HttpRequest request, int remaining,
+                                           long[] latencies, AtomicInteger recorded) {
+        if (remaining == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        return http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenCompose(response -> {
+                    assertThat(response.statusCode()).isEqualTo(200);
+                    latencies[recorded.getAndIncrement()] = System.nanoTime() - start;
+                    return client(http, request, remaining - 1, latencies, recorded);
+                });
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private record Result(String mode, long p50Millis, long p99Millis, long maxMillis,
+                          int peakConcurrency, double requestsPerSecond, long pinned) {
+
+        @Override
+        public String toString() {
+            return String.format("[%s] pool=%d, clients=%d, p50=%dms, p99=%dms, max=%dms, "
+                            + "peakConcurrency=%d, throughput=%.0f req/s, pinned=%d",
+                    mode, POOL_SIZE, CLIENTS, p50Millis, p99Millis, maxMillis,
+                    peakConcurrency, requestsPerSecond, pinned);
+        }
+    }
+
+    /**
+     * 측정용 엔드포인트 (함수형 라우트로 등록하여 다른 테스트의 컴포넌트 스캔에 잡히지 않게 함)
+     */
+    static class LoadTestEndpoints {
+
+        @Bean
+        RouterFunction<ServerResponse> loadTestRoute(JdbcTemplate jdbcTemplate) {
+            return RouterFunctions.route()
+                    .GET("/load-test/io", request -> {
+                        PEAK.accumulateAndGet(IN_FLIGHT.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(IO_LATENCY_MS);
+                            Long count = jdbcTemplate.queryForObject("select count(*) from todos", Long.class);
+                            return ServerResponse.ok().body(String.valueOf(count));
+                        } finally {
+                            IN_FLIGHT.decrementAndGet();
+                        }
+                    })
+                    .build();
+        }
+
+        @Bean
+        RefreshTokenRepository refreshTokenRepository() {
+            return Mockito.mock(RefreshTokenRepository.class);
+        }
+    }
+}
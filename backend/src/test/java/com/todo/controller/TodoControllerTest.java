@@ -6,8 +6,13 @@ import com.epages.restdocs.apispec.ResourceSnippetParameters;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.todo.config.RestDocsConfig;
 import com.todo.config.CorsProperties;
+import com.todo.dto.TodoBatchRequest;
+import com.todo.dto.TodoFileFormat;
+import com.todo.dto.TodoMoveRequest;
+import com.todo.dto.TodoPageResponse;
 import com.todo.dto.TodoRequest;
 import com.todo.dto.TodoResponse;
+import com.todo.dto.TodoSearchResponse;
 import com.todo.exception.ForbiddenException;
 import com.todo.exception.ResourceNotFoundException;
 import com.todo.service.TodoService;
@@ -20,24 +25,38 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import com.todo.config.TestSecurityConfig;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.patch;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = TodoController.class)
@@ -63,6 +82,12 @@ class TodoControllerTest {
         @MockBean
         private CorsProperties corsProperties;
 
+        @MockBean
+        private com.todo.config.RateLimiter rateLimiter;
+
+        @MockBean
+        private com.todo.config.RateLimitProperties rateLimitProperties;
+
         @Autowired
         private ObjectMapper objectMapper;
 
@@ -83,6 +108,7 @@ class TodoControllerTest {
                 // given
                 TodoResponse todo1 = new TodoResponse(1L, "Test 1", false, 0, null, null);
                 TodoResponse todo2 = new TodoResponse(2L, "Test 2", true, 1, null, null);
+                given(todoService.getVersionTag()).willReturn("\"1-3\"");
                 given(todoService.findByFilter(anyString())).willReturn(List.of(todo1, todo2));
 
                 // when & then
@@ -90,6 +116,7 @@ class TodoControllerTest {
                                 .param("filter", "all"))
                                 .andDo(print())
                                 .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "\"1-3\""))
                                 .andExpect(jsonPath("$.length()").value(2))
                                 .andExpect(jsonPath("$[0].text").value("Test 1"))
                                 .andDo(MockMvcRestDocumentationWrapper.document("todo-get-all",
@@ -125,6 +152,171 @@ class TodoControllerTest {
                                                                 .build())));
         }
 
+        @Test
+        @DisplayName("limit 파라미터가 있으면 커서 페이지로 조회한다")
+        @WithMockUser
+        void getPage() throws Exception {
+                // given
+                TodoResponse todo1 = new TodoResponse(1L, "Test 1", false, 0, null, null);
+                given(todoService.findPage("all", 1, null))
+                                .willReturn(new TodoPageResponse(List.of(todo1), "next-cursor", true));
+
+                // when & then
+                mockMvc.perform(get("/api/todos")
+                                .param("limit", "1"))
+                                .andDo(print())
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items.length()").value(1))
+                                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                                .andExpect(jsonPath("$.hasNext").value(true))
+                                .andDo(MockMvcRestDocumentationWrapper.document("todo-get-page",
+                                                ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+                                                                .tag("Todo")
+                                                                .summary("할 일 커서 페이지 조회")
+                                                                .description("limit 파라미터가 있으면 커서 기반으로 할 일을 나누어 조회합니다.")
+                                                                .queryParameters(
+                                                                                parameterWithName("limit").description(
+                                                                                                "페이지 크기 (1~100)"))
+                                                                .responseFields(
+                                                                                fieldWithPath("items[].id").type(
+                                                                                                JsonFieldType.NUMBER)
+                                                                                                .description("할 일 ID"),
+                                                                                fieldWithPath("items[].text").type(
+                                                                                                JsonFieldType.STRING)
+                                                                                                .description("할 일 내용"),
+                                                                                fieldWithPath("items[].completed").type(
+                                                                                                JsonFieldType.BOOLEAN)
+                                                                                                .description("완료 여부"),
+                                                                                fieldWithPath("items[].displayOrder").type(
+                                                                                                JsonFieldType.NUMBER)
+                                                                                                .description("정렬 순서"),
+                                                                                fieldWithPath("items[].createdAt").type(
+                                                                                                JsonFieldType.STRING)
+                                                                                                .description("생성일시")
+                                                                                                .optional(),
+                                                                                fieldWithPath("items[].updatedAt").type(
+                                                                                                JsonFieldType.STRING)
+                                                                                                .description("수정일시")
+                                                                                                .optional(),
+                                                                                fieldWithPath("nextCursor").type(
+                                                                                                JsonFieldType.STRING)
+                                                                                                .description("다음 페이지 커서 (after 파라미터로 전달)")
+                                                                                                .optional(),
+                                                                                fieldWithPath("hasNext").type(
+                                                                                                JsonFieldType.BOOLEAN)
+                                                                                                .description("다음 페이지 존재 여부"))
+                                                                .build())));
+        }
+
+        @Test
+        @DisplayName("gzip을 받는 클라이언트에는 내보내기 파일을 압축 헤더와 함께 스트리밍한다")
+        @WithMockUser
+        void export() throws Exception {
+                // given: 요청 스레드의 보안 헤더 쓰기(HeaderWriterFilter)가 끝난 뒤에 본문을 쓰도록 대기
+                // (비동기 스레드가 같은 mock 응답에 동시에 쓰면 헤더 맵 순회 중 ConcurrentModificationException)
+                CountDownLatch requestThreadDone = new CountDownLatch(1);
+                StreamingResponseBody body = out -> {
+                        try {
+                                requestThreadDone.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                        }
+                        out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+                };
+                given(todoService.export(TodoFileFormat.NDJSON, true)).willReturn(body);
+
+                // when
+                MvcResult started = mockMvc.perform(get("/api/todos/export")
+                                .param("format", "ndjson")
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                requestThreadDone.countDown();
+                started.getAsyncResult(5_000);
+
+                // then
+                mockMvc.perform(asyncDispatch(started))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                                                "attachment; filename=\"todos.ndjson\""))
+                                .andExpect(content().string("{\"id\":1}\n"));
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 내보내기 형식이면 400을 반환한다")
+        @WithMockUser
+        void export_UnknownFormat() throws Exception {
+                mockMvc.perform(get("/api/todos/export").param("format", "xml"))
+                                .andExpect(status().isBadRequest());
+                verify(todoService, never()).export(any(), org.mockito.ArgumentMatchers.anyBoolean());
+        }
+
+        @Test
+        @DisplayName("검색어로 할 일을 관련도순으로 조회한다")
+        @WithMockUser
+        void search() throws Exception {
+                // given
+                TodoResponse todo1 = new TodoResponse(1L, "우유 사기", false, 0, null, null);
+                given(todoService.search("우유", 1, 0))
+                                .willReturn(new TodoSearchResponse(List.of(todo1), 1, true));
+
+                // when & then
+                mockMvc.perform(get("/api/todos/search")
+                                .param("q", "우유")
+                                .param("limit", "1")
+                                .param("offset", "0"))
+                                .andDo(print())
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[0].text").value("우유 사기"))
+                                .andExpect(jsonPath("$.nextOffset").value(1))
+                                .andExpect(jsonPath("$.hasNext").value(true))
+                                .andDo(MockMvcRestDocumentationWrapper.document("todo-search",
+                                                ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+                                                                .tag("Todo")
+                                                                .summary("할 일 검색")
+                                                                .description("본문에 검색어가 포함된 할 일을 관련도순으로 나누어 조회합니다.")
+                                                                .queryParameters(
+                                                                                parameterWithName("q").description(
+                                                                                                "검색어 (1~100자)"),
+                                                                                parameterWithName("limit").description(
+                                                                                                "페이지 크기 (1~100, 기본 20)")
+                                                                                                .optional(),
+                                                                                parameterWithName("offset").description(
+                                                                                                "건너뛸 개수 (0~1000, 기본 0)")
+                                                                                                .optional())
+                                                                .responseFields(
+                                                                                fieldWithPath("items[].id").type(
+                                                                                                JsonFieldType.NUMBER)
+                                                                                                .description("할 일 ID"),
+                                                                                fieldWithPath("items[].text").type(
+                                                                                                JsonFieldType.STRING)
+                                                                                                .description("할 일 내용"),
+                                                                                fieldWithPath("items[].completed").type(
+                                                                                                JsonFieldType.BOOLEAN)
+                                                                                                .description("완료 여부"),
+                                                                                fieldWithPath("items[].displayOrder").type(
+                                                                                                JsonFieldType.NUMBER)
+                                                                                                .description("정렬 순서"),
+                                                                                fieldWithPath("items[].createdAt").type(
+                                                                                                JsonFieldType.STRING)
+                                                                                                .description("생성일시")
+                                                                                                .optional(),
+                                                                                fieldWithPath("items[].updatedAt").type(
+                                                                                                JsonFieldType.STRING)
+                                                                                                .description("수정일시")
+                                                                                                .optional(),
+                                                                                fieldWithPath("nextOffset").type(
+                                                                                                JsonFieldType.NUMBER)
+                                                                                                .description("다음 페이지 offset (마지막 페이지면 null)")
+                                                                                                .optional(),
+                                                                                fieldWithPath("hasNext").type(
+                                                                                                JsonFieldType.BOOLEAN)
+                                                                                                .description("다음 페이지 존재 여부"))
+                                                                .build())));
+        }
+
         @Test
         @DisplayName("새로운 할 일을 생성한다")
         @WithMockUser
@@ -184,12 +376,95 @@ class TodoControllerTest {
                                                                 .build())));
         }
 
+        @Test
+        @DisplayName("할 일을 일괄 생성한다")
+        @WithMockUser
+        void createAll() throws Exception {
+                // given
+                TodoBatchRequest request = new TodoBatchRequest(List.of(
+                                new TodoRequest("Todo 1", null, null),
+                                new TodoRequest("Todo 2", true, null)));
+                given(todoService.createAll(any())).willReturn(List.of(
+                                new TodoResponse(1L, "Todo 1", false, 0, null, null),
+                                new TodoResponse(2L, "Todo 2", true, 1, null, null)));
+
+                // when & then
+                mockMvc.perform(post("/api/todos/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request))
+                                .with(csrf()))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.length()").value(2))
+                                .andDo(MockMvcRestDocumentationWrapper.document("todo-create-batch",
+                                                ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+                                                                .tag("Todo")
+                                                                .summary("할 일 일괄 생성")
+                                                                .description("최대 1000개의 할 일을 한 번에 생성합니다.")
+                                                                .requestFields(
+                                                                                fieldWithPath("items[].text").type(
+                                                                                                JsonFieldType.STRING)
+                                                                                                .description("할 일 내용"),
+                                                                                fieldWithPath("items[].completed").type(
+                                                                                                JsonFieldType.BOOLEAN)
+                                                                                                .description("완료 여부")
+                                                                                                .optional(),
+                                                                                fieldWithPath("items[].displayOrder").type(
+                                                                                                JsonFieldType.NUMBER)
+                                                                                                .description("무시됨 (서버가 순서 할당)")
+                                                                                                .optional())
+                                                                .build())));
+        }
+
+        @Test
+        @DisplayName("일괄 생성 항목이 비어 있으면 400을 반환한다")
+        @WithMockUser
+        void createAll_Empty_ShouldReturn400() throws Exception {
+                mockMvc.perform(post("/api/todos/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"items\":[]}")
+                                .with(csrf()))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("할 일의 순서를 이동한다")
+        @WithMockUser
+        void move() throws Exception {
+                // given
+                TodoMoveRequest request = new TodoMoveRequest(3L, 1L, null);
+                given(todoService.move(any())).willReturn(new TodoResponse(3L, "Todo 3", false, 512, null, null));
+
+                // when & then
+                mockMvc.perform(patch("/api/todos/order")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request))
+                                .with(csrf()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.displayOrder").value(512))
+                                .andDo(MockMvcRestDocumentationWrapper.document("todo-move",
+                                                ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+                                                                .tag("Todo")
+                                                                .summary("할 일 순서 이동")
+                                                                .description("할 일을 다른 할 일의 바로 앞(beforeId) 또는 바로 뒤(afterId)로 옮깁니다.")
+                                                                .requestFields(
+                                                                                fieldWithPath("id").type(JsonFieldType.NUMBER)
+                                                                                                .description("이동할 할 일 ID"),
+                                                                                fieldWithPath("beforeId").type(JsonFieldType.NUMBER)
+                                                                                                .description("이 할 일 바로 앞으로 이동")
+                                                                                                .optional(),
+                                                                                fieldWithPath("afterId").type(JsonFieldType.NUMBER)
+                                                                                                .description("이 할 일 바로 뒤로 이동")
+                                                                                                .optional())
+                                                                .build())));
+        }
+
         @Test
         @DisplayName("통계를 조회한다")
         @WithMockUser
         void getStats() throws Exception {
                 // given
                 TodoService.TodoStats stats = new TodoService.TodoStats(10L, 5L, 5L);
+                given(todoService.getVersionTag()).willReturn("\"1-3\"");
                 given(todoService.getStats()).willReturn(stats);
 
                 // when & then
@@ -217,6 +492,20 @@ class TodoControllerTest {
                                                                 .build())));
         }
 
+        @Test
+        @DisplayName("If-None-Match가 현재 ETag와 같으면 목록을 조회하지 않고 304를 반환한다")
+        @WithMockUser
+        void getAll_NotModified() throws Exception {
+                given(todoService.getVersionTag()).willReturn("\"1-3\"");
+
+                mockMvc.perform(get("/api/todos")
+                                .header("If-None-Match", "\"1-3\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", "\"1-3\""));
+
+                verify(todoService, never()).findByFilter(anyString());
+        }
+
         @Test
         @DisplayName("존재하지 않는 Todo 조회 시 404를 반환한다")
         @WithMockUser
@@ -0,0 +1,141 @@
+package com.todo.controller;
+
+import com.todo.config.JwtTokenProvider;
+import com.todo.config.TestSecurityConfig;
+import com.todo.dto.TodoResponse;
+import com.todo.entity.Member;
+import com.todo.entity.MemberTodoCounter;
+import com.todo.entity.Todo;
+import com.todo.repository.MemberRepository;
+import com.todo.repository.MemberTodoCounterRepository;
+import com.todo.repository.RefreshTokenRepository;
+import com.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 가져오기 전체 경로 검증 (H2: JDBC 배치 적재)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+class TodoImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private MemberTodoCounterRepository counterRepository;
+
+    @MockBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("import@example.com")
+                .password("password")
+                .nickname("import")
+                .role(Member.Role.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        counterRepository.deleteAll();
+        todoRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("기존 Todo 뒤에 순서대로 추가하고 카운터/id가 엔티티 저장 경로와 어긋나지 않는다")
+    void importNdjson_AppendsAfterExistingTodos() throws Exception {
+        Todo existing = todoRepository.save(Todo.builder().text("기존").displayOrder(1024).member(member).build());
+        counterRepository.save(new MemberTodoCounter(member.getId(), 1, 0, 1024));
+        String body = IntStream.range(0, 1500)
+                .mapToObj(i -> "{\"text\":\"가져온 " + i + "\",\"completed\":" + (i % 3 == 0) + "}")
+                .reduce("", (a, b) -> a + b + "\n") + "{\"text\":\"\"}\n";
+
+        mockMvc.perform(post("/api/todos/import")
+                        .header("Authorization", "Bearer " + accessToken())
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1500))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(1501));
+
+        List<TodoResponse> todos = todoRepository.findAllSorted(member.getId());
+        assertThat(todos).hasSize(1501);
+        assertThat(todos.get(0).getId()).isEqualTo(existing.getId());
+        assertThat(todos.get(1).getText()).isEqualTo("가져온 0");
+        assertThat(todos.get(1500).getText()).isEqualTo("가져온 1499");
+        assertThat(todos).extracting(TodoResponse::getDisplayOrder).doesNotHaveDuplicates().isSorted();
+        assertThat(new HashSet<>(todos.stream().map(TodoResponse::getId).toList())).hasSize(1501);
+
+        MemberTodoCounter counter = counterRepository.findById(member.getId()).orElseThrow();
+        assertThat(counter.getTotal()).isEqualTo(1501);
+        assertThat(counter.getCompleted()).isEqualTo(500);
+        assertThat(counter.getLastDisplayOrder()).isEqualTo(todos.get(1500).getDisplayOrder());
+
+        // 가져온 뒤 엔티티 저장 경로(시퀀스 pooled)로 만든 id와 겹치지 않음
+        Todo created = todoRepository.save(Todo.builder().text("새로").member(member).build());
+        assertThat(todos).extracting(TodoResponse::getId).doesNotContain(created.getId());
+    }
+
+    @Test
+    @DisplayName("CSV 본문도 가져오며, 지원하지 않는 Content-Type이면 400을 반환한다")
+    void importCsv_AndRejectUnknownContentType() throws Exception {
+        mockMvc.perform(post("/api/todos/import")
+                        .header("Authorization", "Bearer " + accessToken())
+                        .contentType("text/csv;charset=UTF-8")
+                        .content("text,completed\n우유 사기,true\n\"쉼표, 포함\",\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(0));
+        assertThat(todoRepository.findAllSorted(member.getId())).extracting(TodoResponse::getText)
+                .containsExactly("우유 사기", "쉼표, 포함");
+
+        mockMvc.perform(post("/api/todos/import")
+                        .header("Authorization", "Bearer " + accessToken())
+                        .contentType("application/xml")
+                        .content("<todos/>"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String accessToken() {
+        var authentication = new UsernamePasswordAuthenticationToken(
+                member.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return jwtTokenProvider.generateAccessToken(authentication, member.getId(), null);
+    }
+}
@@ -0,0 +1,314 @@
+package com.todo.controller;
+
+import com.todo.config.JwtTokenProvider;
+import com.todo.config.QueryCountInspector;
+import com.todo.config.TestSecurityConfig;
+import com.todo.entity.Member;
+import com.todo.entity.MemberTodoCounter;
+import com.todo.entity.Todo;
+import com.todo.repository.MemberRepository;
+import com.todo.repository.MemberTodoCounterRepository;
+import com.todo.repository.RefreshTokenRepository;
+import com.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청당 실행되는 SQL 수 검증
+ * - Access Token의 memberId claim 덕분에 members 조회 없이 todos 쿼리만 실행되어야 한다
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.todo.config.QueryCountInspector")
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+class TodoQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private MemberTodoCounterRepository counterRepository;
+
+    @MockBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .email("count@example.com")
+                .password("password")
+                .nickname("counter")
+                .role(Member.Role.USER)
+                .build());
+        todoRepository.save(Todo.builder().text("Todo 1").displayOrder(0).member(member).build());
+        todoRepository.save(Todo.builder().text("Todo 2").displayOrder(1).member(member).build());
+
+        var authentication = new UsernamePasswordAuthenticationToken(
+                member.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        accessToken = jwtTokenProvider.generateAccessToken(authentication, member.getId(), null);
+
+        QueryCountInspector.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        counterRepository.deleteAll();
+        todoRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("목록 조회 시 members 조회 없이 버전 조회 + 목록 쿼리만 실행된다")
+    void getAll_ExecutesVersionAndListStatementsWithoutMemberLookup() throws Exception {
+        mockMvc.perform(get("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+
+        assertThat(QueryCountInspector.count("from members")).isZero();
+        assertThat(QueryCountInspector.statements()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("통계 조회 시 members 조회가 발생하지 않는다")
+    void getStats_DoesNotQueryMembers() throws Exception {
+        mockMvc.perform(get("/api/todos/stats")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2));
+
+        assertThat(QueryCountInspector.count("from members")).isZero();
+    }
+
+    @Test
+    @DisplayName("ETag가 같으면 목록을 조회하지 않고 304를 반환하고, 삭제 후에는 ETag가 바뀐다")
+    void getAll_NotModified_SkipsListQuery() throws Exception {
+        // 첫 변경으로 카운터 행 생성
+        mockMvc.perform(post("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\":\"Todo 3\"}"))
+                .andExpect(status().isCreated());
+
+        String eTag = mockMvc.perform(get("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(eTag).isNotBlank();
+
+        QueryCountInspector.clear();
+        mockMvc.perform(get("/api/todos")
+                        .param("filter", "active")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        assertThat(QueryCountInspector.count("from todos")).isZero();
+
+        Long todoId = todoRepository.findAll().get(0).getId();
+        mockMvc.perform(delete("/api/todos/" + todoId)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", org.hamcrest.Matchers.not(eTag)));
+    }
+
+    @Test
+    @DisplayName("일괄 생성은 JDBC 배치로 전송되어 INSERT 문 준비가 배치 크기 단위로만 일어난다")
+    void createAll_UsesJdbcBatching() throws Exception {
+        String items = java.util.stream.IntStream.range(0, 120)
+                .mapToObj(i -> "{\"text\":\"Batch " + i + "\"}")
+                .collect(java.util.stream.Collectors.joining(",", "{\"items\":[", "]}"));
+
+        mockMvc.perform(post("/api/todos/batch")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(items))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(120))
+                .andExpect(jsonPath("$[119].displayOrder").value(1 + 120 * 1024));
+
+        // batch_size 50 → 120건은 INSERT 3회, 시퀀스(allocationSize 50) 조회도 몇 번뿐
+        assertThat(QueryCountInspector.count("insert into todos")).isLessThanOrEqualTo(3);
+        assertThat(QueryCountInspector.count("todos_seq")).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("순서 이동은 이웃 사이 중간 값을 써서 이동한 한 행만 UPDATE한다")
+    void move_RewritesOnlyMovedRow() throws Exception {
+        Long first = idOf("Todo 1");
+        Long second = idOf("Todo 2");
+        saveCounter();
+        QueryCountInspector.clear();
+
+        mockMvc.perform(patch("/api/todos/order")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":" + second + ",\"beforeId\":" + first + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.displayOrder").value(-1024));
+
+        assertThat(QueryCountInspector.count("update todos")).isEqualTo(1);
+        assertThat(QueryCountInspector.count("from members")).isZero();
+
+        mockMvc.perform(get("/api/todos").header("Authorization", "Bearer " + accessToken))
+                .andExpect(jsonPath("$[0].text").value("Todo 2"))
+                .andExpect(jsonPath("$[1].text").value("Todo 1"));
+    }
+
+    @Test
+    @DisplayName("이웃 사이에 빈 순서 값이 없으면 뒤쪽 항목을 한 번에 밀고 그 사이에 넣는다")
+    void move_WithoutGap_ShiftsFollowingRows() throws Exception {
+        Long first = idOf("Todo 1");
+        Long second = idOf("Todo 2");
+        Long third = todoRepository.save(Todo.builder().text("Todo 3").displayOrder(2)
+                .member(memberRepository.findByEmail("count@example.com").orElseThrow()).build()).getId();
+        QueryCountInspector.clear();
+
+        mockMvc.perform(patch("/api/todos/order")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":" + third + ",\"afterId\":" + first + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.displayOrder").value(512));
+
+        // 밀어내기 UPDATE 1회 + 이동한 행 UPDATE 1회
+        assertThat(QueryCountInspector.count("update todos")).isEqualTo(2);
+        assertThat(todoRepository.findById(second).orElseThrow().getDisplayOrder()).isEqualTo(1025);
+
+        mockMvc.perform(get("/api/todos").header("Authorization", "Bearer " + accessToken))
+                .andExpect(jsonPath("$[*].text").value(org.hamcrest.Matchers.contains("Todo 1", "Todo 3", "Todo 2")));
+    }
+
+    @Test
+    @DisplayName("토글은 조건부 UPDATE 한 번 + 카운터 UPDATE 한 번으로 끝난다 (엔티티 조회 없음)")
+    void toggle_SingleConditionalUpdate() throws Exception {
+        Long first = idOf("Todo 1");
+        saveCounter();
+        QueryCountInspector.clear();
+
+        mockMvc.perform(patch("/api/todos/" + first + "/toggle")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.text").value("Todo 1"));
+
+        assertThat(QueryCountInspector.statements()).hasSize(2);
+        assertThat(QueryCountInspector.count("update todos")).isEqualTo(1);
+        assertThat(QueryCountInspector.count("update member_todo_counters")).isEqualTo(1);
+        assertThat(counterRepository.findById(memberId()).orElseThrow().getCompleted()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("삭제는 조건부 DELETE 한 번 + 카운터 UPDATE 한 번으로 끝난다 (엔티티 조회 없음)")
+    void delete_SingleConditionalDelete() throws Exception {
+        Long first = idOf("Todo 1");
+        saveCounter();
+        QueryCountInspector.clear();
+
+        mockMvc.perform(delete("/api/todos/" + first)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isNoContent());
+
+        assertThat(QueryCountInspector.statements()).hasSize(2);
+        assertThat(QueryCountInspector.count("delete from todos")).isEqualTo(1);
+        assertThat(todoRepository.existsById(first)).isFalse();
+        assertThat(counterRepository.findById(memberId()).orElseThrow().getTotal()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("수정은 조건부 UPDATE 한 번으로 끝나고, 완료 여부가 바뀌면 완료 개수도 증감한다")
+    void update_SingleConditionalUpdate() throws Exception {
+        Long first = idOf("Todo 1");
+        saveCounter();
+        QueryCountInspector.clear();
+
+        mockMvc.perform(put("/api/todos/" + first)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\":\"Edited\",\"completed\":true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.text").value("Edited"))
+                .andExpect(jsonPath("$.completed").value(true));
+
+        assertThat(QueryCountInspector.statements()).hasSize(2);
+        assertThat(counterRepository.findById(memberId()).orElseThrow().getCompleted()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 Todo는 변경되지 않고 403, 없는 Todo는 404를 반환한다")
+    void mutations_OfOthersTodo_AreRejected() throws Exception {
+        Member other = memberRepository.save(Member.builder()
+                .email("other@example.com")
+                .password("password")
+                .nickname("other")
+                .role(Member.Role.USER)
+                .build());
+        Long othersTodo = todoRepository.save(Todo.builder().text("Other").member(other).build()).getId();
+
+        mockMvc.perform(patch("/api/todos/" + othersTodo + "/toggle")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/todos/" + othersTodo)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/todos/" + (othersTodo + 1000))
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isNotFound());
+
+        Todo unchanged = todoRepository.findById(othersTodo).orElseThrow();
+        assertThat(unchanged.getCompleted()).isFalse();
+    }
+
+    private Long memberId() {
+        return memberRepository.findByEmail("count@example.com").orElseThrow().getId();
+    }
+
+    private void saveCounter() {
+        counterRepository.save(new MemberTodoCounter(memberId(), 2L, 0L, 1));
+    }
+
+    private Long idOf(String text) {
+        return todoRepository.findAll().stream()
+                .filter(todo -> todo.getText().equals(text))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+}
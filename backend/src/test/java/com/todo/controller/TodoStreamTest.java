@@ -0,0 +1,146 @@
+package com.todo.controller;
+
+import com.todo.config.JwtTokenProvider;
+import com.todo.config.TestSecurityConfig;
+import com.todo.entity.Member;
+import com.todo.entity.Todo;
+import com.todo.repository.MemberRepository;
+import com.todo.repository.MemberTodoCounterRepository;
+import com.todo.repository.RefreshTokenRepository;
+import com.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 변경 스트림(SSE) 전달 검증 (Redis 없이 노드 내부 전달)
+ */
+@SpringBootTest
+// 전송 스레드가 응답을 쓰는 중에 결과 출력이 헤더를 순회하지 않도록 출력 비활성화
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+@Import(TestSecurityConfig.class)
+class TodoStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private MemberTodoCounterRepository counterRepository;
+
+    @MockBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("stream@example.com")
+                .password("password")
+                .nickname("stream")
+                .role(Member.Role.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        counterRepository.deleteAll();
+        todoRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("커밋된 변경은 같은 회원의 스트림으로 이벤트와 통계 증감값이 전달된다")
+    void stream_ReceivesToggleEventAfterCommit() throws Exception {
+        Long todoId = todoRepository.save(Todo.builder().text("Stream me").member(member).build()).getId();
+        String token = accessToken(member);
+
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/todos/stream")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        mockMvc.perform(patch("/api/todos/" + todoId + "/toggle")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        String body = awaitContent(stream, "event:toggled");
+        assertThat(body).contains("event:connected");
+        assertThat(body).contains("\"todoId\":" + todoId);
+        assertThat(body).contains("\"completedDelta\":1");
+    }
+
+    @Test
+    @DisplayName("다른 회원의 변경은 전달되지 않고, 실패한(롤백된) 변경도 전달되지 않는다")
+    void stream_IgnoresOtherMembersAndFailedMutations() throws Exception {
+        Member other = memberRepository.save(Member.builder()
+                .email("other-stream@example.com")
+                .password("password")
+                .nickname("other")
+                .role(Member.Role.USER)
+                .build());
+        Long othersTodo = todoRepository.save(Todo.builder().text("Other").member(other).build()).getId();
+
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/todos/stream")
+                        .header("Authorization", "Bearer " + accessToken(member)))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        awaitContent(stream, "event:connected");
+
+        mockMvc.perform(patch("/api/todos/" + othersTodo + "/toggle")
+                        .header("Authorization", "Bearer " + accessToken(other)))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/todos/" + othersTodo + "/toggle")
+                        .header("Authorization", "Bearer " + accessToken(member)))
+                .andExpect(status().isForbidden());
+
+        Thread.sleep(200);
+        assertThat(stream.getContentAsString()).doesNotContain("event:toggled");
+    }
+
+    private String accessToken(Member target) {
+        var authentication = new UsernamePasswordAuthenticationToken(
+                target.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return jwtTokenProvider.generateAccessToken(authentication, target.getId(), null);
+    }
+
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            String body = response.getContentAsString();
+            if (body.contains(expected)) {
+                return body;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("스트림에서 '" + expected + "'를 받지 못했습니다: " + response.getContentAsString());
+    }
+}
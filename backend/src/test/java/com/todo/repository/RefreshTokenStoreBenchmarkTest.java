@@ -0,0 +1,227 @@
+package com.todo.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.TimeToLive;
+import org.springframework.data.redis.core.index.Indexed;
+import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
+import org.springframework.data.repository.CrudRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Refresh Token 저장 구조 비교 (실제 Redis 필요: REDIS_HOST/REDIS_PORT, 기본 localhost:6379)
+ *
+ * - legacy: 이전 구조 (@RedisHash + @Indexed refreshToken + @TimeToLive, Spring Data Redis 리포지토리)
+ * - current: RefreshTokenRepository (SHA-256 키 + 회원 키, Lua 스크립트)
+ * SESSIONS개 세션을 저장했을 때의 used_memory 증가분과, REISSUES번 재발급(조회 + 교체)하는 동안의
+ * 처리 명령 수(INFO total_commands_processed) 증가분을 세션/재발급 1건 기준으로 출력한다.
+ * 다른 클라이언트가 없는 Redis에서 실행해야 수치가 정확하다. Redis에 연결할 수 없으면 건너뛴다.
+ * 실행: ./gradlew benchmark --tests '*RefreshTokenStoreBenchmarkTest*'
+ */
+@Tag("benchmark")
+class RefreshTokenStoreBenchmarkTest {
+
+    private static final int SESSIONS = 10_000;
+    private static final int REISSUES = 1_000;
+    private static final long TTL_MILLIS = Duration.ofDays(14).toMillis();
+    private static final long MEMBER_ID_BASE = 900_000_000L;
+
+    @Test
+    @DisplayName("SHA-256 키 저장소는 세션당 메모리가 더 작고 재발급 1건을 Redis 명령 1회로 처리한다")
+    void memoryAndRoundTripsPerSession() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(LegacyConfig.class)) {
+            StringRedisTemplate redisTemplate = context.getBean(StringRedisTemplate.class);
+            assumeTrue(ping(redisTemplate), "Redis에 연결할 수 없어 건너뜀");
+
+            Result legacy = measureLegacy(context.getBean(LegacyRefreshTokenRepository.class), redisTemplate);
+            Result current = measureCurrent(new RefreshTokenRepository(redisTemplate), redisTemplate);
+            System.out.println(legacy);
+            System.out.println(current);
+
+            assertThat(current.commandsPerReissue()).isEqualTo(1.0);
+            assertThat(current.commandsPerReissue()).isLessThan(legacy.commandsPerReissue());
+            assertThat(current.bytesPerSession()).isLessThan(legacy.bytesPerSession());
+        }
+    }
+
+    private Result measureLegacy(LegacyRefreshTokenRepository repository, StringRedisTemplate redisTemplate) {
+        repository.deleteAll();
+        List<String> tokens = new ArrayList<>(SESSIONS);
+        long memoryBefore = usedMemory(redisTemplate);
+        for (int i = 0; i < SESSIONS; i++) {
+            String token = UUID.randomUUID().toString();
+            repository.save(new LegacyRefreshToken(String.valueOf(MEMBER_ID_BASE + i), token, TTL_MILLIS));
+            tokens.add(token);
+        }
+        long memory = usedMemory(redisTemplate) - memoryBefore;
+
+        long commandsBefore = commandsProcessed(redisTemplate);
+        for (int i = 0; i < REISSUES; i++) {
+            // 이전 AuthService.reissue: findByRefreshToken → updateToken → save
+            LegacyRefreshToken saved = repository.findByRefreshToken(tokens.get(i)).orElseThrow();
+            saved.setRefreshToken(UUID.randomUUID().toString());
+            repository.save(saved);
+        }
+        // INFO 호출 자체(1회)는 증가분에서 제외
+        long commands = commandsProcessed(redisTemplate) - commandsBefore - 1;
+
+        repository.deleteAll();
+        return new Result("legacy", (double) memory / SESSIONS, (double) commands / REISSUES);
+    }
+
+    private Result measureCurrent(RefreshTokenRepository repository, StringRedisTemplate redisTemplate) {
+        List<String> tokens = new ArrayList<>(SESSIONS);
+        // 스크립트 캐시 적재 (첫 호출은 NOSCRIPT → EVAL 재시도)
+        assertThat(repository.rotate("unknown", "unknown-next", TTL_MILLIS)).isEmpty();
+        long memoryBefore = usedMemory(redisTemplate);
+        for (int i = 0; i < SESSIONS; i++) {
+            String token = UUID.randomUUID().toString();
+            repository.issue(MEMBER_ID_BASE + i, token, TTL_MILLIS);
+            tokens.add(token);
+        }
+        long memory = usedMemory(redisTemplate) - memoryBefore;
+
+        List<String> rotated = new ArrayList<>(REISSUES);
+        long commandsBefore = commandsProcessed(redisTemplate);
+        for (int i = 0; i < REISSUES; i++) {
+            String next = UUID.randomUUID().toString();
+            assertThat(repository.rotate(tokens.get(i), next, TTL_MILLIS)).contains(MEMBER_ID_BASE + i);
+            rotated.add(next);
+        }
+        long commands = commandsProcessed(redisTemplate) - commandsBefore - 1;
+
+        // 교체된 토큰 재사용, 재로그인으로 밀려난 토큰, 로그아웃 후 토큰은 모두 거절
+        assertThat(repository.rotate(tokens.get(0), UUID.randomUUID().toString(), TTL_MILLIS)).isEmpty();
+        repository.issue(MEMBER_ID_BASE + 1, "relogin", TTL_MILLIS);
+        assertThat(repository.rotate(rotated.get(1), UUID.randomUUID().toString(), TTL_MILLIS)).isEmpty();
+        for (int i = 0; i < SESSIONS; i++) {
+            assertThat(repository.revoke(MEMBER_ID_BASE + i)).isTrue();
+        }
+        assertThat(repository.rotate("relogin", UUID.randomUUID().toString(), TTL_MILLIS)).isEmpty();
+        return new Result("current", (double) memory / SESSIONS, (double) commands / REISSUES);
+    }
+
+    private static boolean ping(StringRedisTemplate redisTemplate) {
+        try {
+            return "PONG".equals(redisTemplate.execute((RedisCallback<String>) connection -> connection.ping()));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static long usedMemory(StringRedisTemplate redisTemplate) {
+        return Long.parseLong(info(redisTemplate, "memory").getProperty("used_memory"));
+    }
+
+    private static long commandsProcessed(StringRedisTemplate redisTemplate) {
+        return Long.parseLong(info(redisTemplate, "stats").getProperty("total_commands_processed"));
+    }
+
+    private static Properties info(StringRedisTemplate redisTemplate, String section) {
+        return redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info(section));
+    }
+
+    private record Result(String store, double bytesPerSession, double commandsPerReissue) {
+
+        @Override
+        public String toString() {
+            return String.format("[%s] sessions=%d, memory=%.0f bytes/session, reissues=%d, redisCommands=%.2f/reissue",
+                    store, SESSIONS, bytesPerSession, REISSUES, commandsPerReissue);
+        }
+    }
+
+    /**
+     * 이전 RefreshToken 엔티티와 같은 매핑
+     */
+    @RedisHash("benchRefreshToken")
+    static class LegacyRefreshToken {
+
+        @Id
+        private String id;
+
+        @Indexed
+        private String refreshToken;
+
+        @TimeToLive(unit = TimeUnit.MILLISECONDS)
+        private Long expiration;
+
+        LegacyRefreshToken() {
+        }
+
+        LegacyRefreshToken(String id, String refreshToken, Long expiration) {
+            this.id = id;
+            this.refreshToken = refreshToken;
+            this.expiration = expiration;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+
+        public void setRefreshToken(String refreshToken) {
+            this.refreshToken = refreshToken;
+        }
+
+        public Long getExpiration() {
+            return expiration;
+        }
+    }
+
+    interface LegacyRefreshTokenRepository extends CrudRepository<LegacyRefreshToken, String> {
+        Optional<LegacyRefreshToken> findByRefreshToken(String refreshToken);
+    }
+
+    @Configuration
+    @EnableRedisRepositories(considerNestedRepositories = true, includeFilters = @ComponentScan.Filter(
+            type = FilterType.ASSIGNABLE_TYPE, classes = LegacyRefreshTokenRepository.class))
+    static class LegacyConfig {
+
+        @Bean
+        LettuceConnectionFactory redisConnectionFactory() {
+            return new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                    System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+                    Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"))));
+        }
+
+        @Bean
+        RedisTemplate<byte[], byte[]> redisTemplate(RedisConnectionFactory connectionFactory) {
+            RedisTemplate<byte[], byte[]> redisTemplate = new RedisTemplate<>();
+            redisTemplate.setConnectionFactory(connectionFactory);
+            return redisTemplate;
+        }
+
+        @Bean
+        StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+            return new StringRedisTemplate(connectionFactory);
+        }
+    }
+}
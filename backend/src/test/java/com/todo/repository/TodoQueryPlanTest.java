@@ -0,0 +1,100 @@
+package com.todo.repository;
+
+import com.todo.config.QueryCountInspector;
+import com.todo.config.QueryDslConfig;
+import com.todo.dto.TodoCursor;
+import com.todo.entity.Member;
+import com.todo.entity.Todo;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리 실행 계획 검증
+ *
+ * 각 쿼리가 실제로 만든 SQL을 수집해 EXPLAIN을 실행하고,
+ * todos 테이블 전체 스캔(tableScan) 없이 인덱스를 타는지 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.todo.config.QueryCountInspector")
+@Import(QueryDslConfig.class)
+class TodoQueryPlanTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        for (int m = 0; m < 3; m++) {
+            Member member = Member.builder()
+                    .email("plan" + m + "@example.com")
+                    .password("password")
+                    .nickname("planner")
+                    .role(Member.Role.USER)
+                    .build();
+            entityManager.persist(member);
+            memberId = member.getId();
+
+            List<Todo> todos = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                todos.add(Todo.builder()
+                        .text("Todo " + i)
+                        .completed(i % 3 == 0)
+                        .displayOrder(i)
+                        .member(member)
+                        .build());
+            }
+            todoRepository.saveAll(todos);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("모든 조회/삭제 쿼리가 todos 전체 스캔 없이 실행된다")
+    void repositoryQueries_DoNotScanTodos() {
+        List<Runnable> queries = List.of(
+                () -> todoRepository.findAllSorted(memberId),
+                () -> todoRepository.findCompletedSorted(memberId, false),
+                () -> todoRepository.findCompletedSorted(memberId, true),
+                () -> todoRepository.findPage(memberId, null, null, 50),
+                () -> todoRepository.findPage(memberId, false,
+                        new TodoCursor(10, LocalDateTime.now(), Long.MAX_VALUE), 50),
+                () -> todoRepository.countByMemberId(memberId),
+                () -> todoRepository.countByMemberIdAndCompleted(memberId, true),
+                () -> todoRepository.existsByIdAndMemberId(1L, memberId),
+                () -> todoRepository.trashCompleted(memberId, LocalDateTime.now()),
+                () -> todoRepository.findTrash(memberId, LocalDateTime.now().minusDays(7), 100));
+
+        for (Runnable query : queries) {
+            QueryCountInspector.clear();
+            query.run();
+
+            for (String sql : QueryCountInspector.statements()) {
+                String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+                assertThat(plan)
+                        .as("실행 계획: %s", plan)
+                        .doesNotContainIgnoringCase("TODOS.tableScan");
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.todo.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.todo.config.QueryDslConfig;
+import com.todo.dto.TodoResponse;
+import com.todo.entity.Member;
+import com.todo.entity.Todo;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.todo.entity.QTodo.todo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 경로 비교: 엔티티 적재 + TodoResponse.from vs DTO 프로젝션
+ *
+ * 요청당 지연 시간(평균)과 스레드 할당 바이트를 출력한다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import(QueryDslConfig.class)
+class TodoReadPathBenchmarkTest {
+
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest(name = "{0} rows")
+    @ValueSource(ints = { 1_000, 10_000 })
+    @DisplayName("엔티티 적재 vs DTO 프로젝션")
+    void entityVsProjection(int rows) {
+        Long memberId = seed(rows);
+
+        Result entity = measure(() -> queryFactory
+                .selectFrom(todo)
+                .where(todo.member.id.eq(memberId))
+                .orderBy(todo.displayOrder.asc(), todo.createdAt.desc())
+                .fetch()
+                .stream()
+                .map(TodoResponse::from)
+                .collect(Collectors.toList()));
+        Result projection = measure(() -> todoRepository.findAllSorted(memberId));
+
+        System.out.printf("[read-path] rows=%d entity: %.2f ms, %,d B/op | projection: %.2f ms, %,d B/op%n",
+                rows, entity.millis(), entity.bytes(), projection.millis(), projection.bytes());
+        assertThat(projection.bytes()).isLessThan(entity.bytes());
+    }
+
+    private Long seed(int rows) {
+        Member member = Member.builder()
+                .email("bench" + rows + "@example.com")
+                .password("password")
+                .nickname("bench")
+                .role(Member.Role.USER)
+                .build();
+        entityManager.persist(member);
+
+        List<Todo> todos = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            todos.add(Todo.builder().text("Todo " + i).displayOrder(i).member(member).build());
+        }
+        todoRepository.saveAll(todos);
+        entityManager.flush();
+        entityManager.clear();
+        return member.getId();
+    }
+
+    /**
+     * 매 반복마다 영속성 컨텍스트를 비워 새 요청과 같은 조건에서 측정
+     */
+    private Result measure(Supplier<List<TodoResponse>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+            entityManager.clear();
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            query.get();
+            totalNanos += System.nanoTime() - start;
+            totalBytes += threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+            entityManager.clear();
+        }
+        return new Result(totalNanos / 1_000_000.0 / ITERATIONS, totalBytes / ITERATIONS);
+    }
+
+    private record Result(double millis, long bytes) {
+    }
+}
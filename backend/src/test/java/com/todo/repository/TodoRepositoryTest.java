@@ -1,5 +1,7 @@
 package com.todo.repository;
 
+import com.todo.dto.TodoCursor;
+import com.todo.dto.TodoResponse;
 import com.todo.entity.Member;
 import com.todo.entity.Todo;
 import org.junit.jupiter.api.DisplayName;
@@ -7,7 +9,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -59,7 +63,7 @@ class TodoRepositoryTest {
     }
 
     @Test
-    @DisplayName("완료된 할 일을 모두 삭제한다")
+    @DisplayName("완료된 할 일을 모두 휴지통으로 옮기면 조회에서 제외된다")
     void deleteAllCompleted() {
         // given
         Todo todo1 = Todo.builder()
@@ -77,15 +81,19 @@ class TodoRepositoryTest {
         todoRepository.save(todo2);
 
         // when
-        todoRepository.deleteCompleted(member.getId());
+        long trashed = todoRepository.trashCompleted(member.getId(), LocalDateTime.now());
 
         // then
         List<Todo> remaining = todoRepository.findAll(); // findAll generally still works, but for specific user:
         // note: findAll() without arg isn't in custom repo anymore, but JpaRepository
         // has findAll().
         // However, we should probably verify using custom method or just assert size.
+        assertThat(trashed).isEqualTo(1);
         assertThat(remaining).hasSize(1);
         assertThat(remaining.get(0).getText()).isEqualTo("Active Todo");
+        assertThat(todoRepository.findTrash(member.getId(), LocalDateTime.now().minusDays(1), 10))
+                .extracting(TodoResponse::getText)
+                .containsExactly("Completed Todo");
     }
 
     @Test
@@ -109,11 +117,85 @@ class TodoRepositoryTest {
         todoRepository.save(todo2);
 
         // when
-        List<Todo> activeTodos = todoRepository.findCompletedSorted(member.getId(), false);
+        List<TodoResponse> activeTodos = todoRepository.findCompletedSorted(member.getId(), false);
 
         // then
         assertThat(activeTodos).hasSize(2);
         assertThat(activeTodos.get(0).getText()).isEqualTo("Active 2");
         assertThat(activeTodos.get(1).getText()).isEqualTo("Active 1");
     }
+
+    @Test
+    @DisplayName("커서로 페이지를 이어서 조회하면 누락/중복 없이 전체를 순회한다")
+    void findPage_WithCursor_TraversesAllWithoutDuplicates() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            todoRepository.save(Todo.builder()
+                    .text("Todo " + i)
+                    .displayOrder(i / 2) // 동일 displayOrder 포함
+                    .member(member)
+                    .build());
+        }
+
+        // when
+        List<TodoResponse> firstPage = todoRepository.findPage(member.getId(), null, null, 2);
+        List<TodoResponse> secondPage = todoRepository.findPage(member.getId(), null,
+                TodoCursor.of(firstPage.get(1)), 2);
+        List<TodoResponse> thirdPage = todoRepository.findPage(member.getId(), null,
+                TodoCursor.of(secondPage.get(1)), 2);
+
+        // then
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(2);
+        assertThat(thirdPage).hasSize(1);
+
+        List<Long> pagedIds = Stream.of(firstPage, secondPage, thirdPage)
+                .flatMap(List::stream)
+                .map(TodoResponse::getId)
+                .toList();
+        List<Long> allIds = todoRepository.findPage(member.getId(), null, null, 10).stream()
+                .map(TodoResponse::getId)
+                .toList();
+        assertThat(pagedIds).containsExactlyElementsOf(allIds);
+    }
+
+    @Test
+    @DisplayName("검색은 본인 Todo 중 부분 문자열이 일치하는 것만 관련도순으로 페이지 조회한다")
+    void search_MatchesSubstringRankedAndScopedToMember() {
+        // given
+        Member other = Member.builder()
+                .email("other@example.com")
+                .password("password")
+                .nickname("other")
+                .role(Member.Role.USER)
+                .build();
+        entityManager.persist(other);
+        Todo contains = todoRepository.save(Todo.builder().text("저지방 우유 사기").member(member).build());
+        Todo exact = todoRepository.save(Todo.builder().text("우유").member(member).build());
+        Todo prefix = todoRepository.save(Todo.builder().text("우유갑 버리기").member(member).build());
+        todoRepository.save(Todo.builder().text("빵 사기").member(member).build());
+        todoRepository.save(Todo.builder().text("우유 사기").member(other).build());
+
+        // when
+        List<TodoResponse> firstPage = todoRepository.search(member.getId(), "우유", 0, 2);
+        List<TodoResponse> secondPage = todoRepository.search(member.getId(), "우유", 2, 2);
+
+        // then
+        assertThat(firstPage).extracting(TodoResponse::getId).containsExactly(exact.getId(), prefix.getId());
+        assertThat(secondPage).extracting(TodoResponse::getId).containsExactly(contains.getId());
+    }
+
+    @Test
+    @DisplayName("검색어의 LIKE 특수문자는 문자 그대로 일치시킨다")
+    void search_TreatsWildcardsLiterally() {
+        // given
+        Todo percent = todoRepository.save(Todo.builder().text("할인 50% 쿠폰").member(member).build());
+        todoRepository.save(Todo.builder().text("할인 500원 쿠폰").member(member).build());
+
+        // when
+        List<TodoResponse> result = todoRepository.search(member.getId(), "0%", 0, 10);
+
+        // then
+        assertThat(result).extracting(TodoResponse::getId).containsExactly(percent.getId());
+    }
 }
@@ -0,0 +1,114 @@
+package com.todo.repository;
+
+import com.todo.config.QueryDslConfig;
+import com.todo.dto.TodoResponse;
+import com.todo.entity.Member;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 경로 비교: 전체 목록 조회 후 애플리케이션에서 필터 vs search 쿼리 (회원당 100k Todo)
+ *
+ * 요청당 지연 시간(평균)과 스레드 할당 바이트를 출력한다.
+ * H2에서는 LIKE 스캔이므로 인덱스 효과(GIN)는 PostgreSQL에서 EXPLAIN으로 따로 확인한다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import(QueryDslConfig.class)
+class TodoSearchBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("전체 조회 + 필터 vs 검색 쿼리 (100k rows)")
+    void filterInAppVsSearch() {
+        Long memberId = seed(ROWS);
+        String query = "우유";
+
+        Result inApp = measure(() -> todoRepository.findAllSorted(memberId).stream()
+                .filter(todo -> todo.getText().toLowerCase().contains(query))
+                .limit(PAGE_SIZE)
+                .toList());
+        Result search = measure(() -> todoRepository.search(memberId, query, 0, PAGE_SIZE));
+
+        System.out.printf("[search] rows=%d in-app filter: %.2f ms, %,d B/op | search: %.2f ms, %,d B/op%n",
+                ROWS, inApp.millis(), inApp.bytes(), search.millis(), search.bytes());
+        assertThat(search.bytes()).isLessThan(inApp.bytes());
+    }
+
+    /**
+     * 100건 중 1건만 검색어를 포함하도록 삽입 (JDBC 배치)
+     */
+    private Long seed(int rows) {
+        Member member = Member.builder()
+                .email("search-bench@example.com")
+                .password("password")
+                .nickname("bench")
+                .role(Member.Role.USER)
+                .build();
+        entityManager.persist(member);
+        entityManager.flush();
+
+        List<Object[]> args = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String text = i % 100 == 0 ? "저지방 우유 사기 " + i : "장보기 목록 " + i;
+            args.add(new Object[] { text, i, member.getId() });
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into todos (text, completed, display_order, member_id) values (?, false, ?, ?)", args);
+        entityManager.clear();
+        return member.getId();
+    }
+
+    private Result measure(Supplier<List<TodoResponse>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+            entityManager.clear();
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            assertThat(query.get()).hasSize(PAGE_SIZE);
+            totalNanos += System.nanoTime() - start;
+            totalBytes += threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+            entityManager.clear();
+        }
+        return new Result(totalNanos / 1_000_000.0 / ITERATIONS, totalBytes / ITERATIONS);
+    }
+
+    private record Result(double millis, long bytes) {
+    }
+}
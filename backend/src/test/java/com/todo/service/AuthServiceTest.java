@@ -4,7 +4,6 @@ import com.todo.config.JwtTokenProvider;
 import com.todo.dto.AuthRequest;
 import com.todo.dto.AuthResponse;
 import com.todo.entity.Member;
-import com.todo.entity.RefreshToken;
 import com.todo.repository.MemberRepository;
 import com.todo.repository.RefreshTokenRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -77,7 +76,7 @@ class AuthServiceTest {
 
         given(authenticationManagerBuilder.getObject()).willReturn(authenticationManager);
         given(authenticationManager.authenticate(any())).willReturn(authentication);
-        given(jwtTokenProvider.generateAccessToken(authentication)).willReturn("access-token");
+        given(jwtTokenProvider.generateAccessToken(authentication, 1L, null)).willReturn("access-token");
         given(jwtTokenProvider.generateRefreshToken()).willReturn("refresh-token");
         given(jwtTokenProvider.getRefreshTokenValidity()).willReturn(1209600000L);
         given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(testMember));
@@ -89,7 +88,7 @@ class AuthServiceTest {
         assertThat(response.getAccessToken()).isEqualTo("access-token");
         assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
         assertThat(response.getEmail()).isEqualTo("test@example.com");
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
+        verify(refreshTokenRepository).issue(1L, "refresh-token", 1209600000L);
     }
 
     @Test
@@ -97,17 +96,12 @@ class AuthServiceTest {
     void reissue_WithValidRefreshToken_ShouldReturnNewTokens() {
         // given
         String oldRefreshToken = "old-refresh-token";
-        RefreshToken savedToken = RefreshToken.builder()
-                .id("1")
-                .refreshToken(oldRefreshToken)
-                .expiration(1209600000L)
-                .build();
-
-        given(refreshTokenRepository.findByRefreshToken(oldRefreshToken)).willReturn(Optional.of(savedToken));
-        given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
-        given(jwtTokenProvider.generateAccessToken(any())).willReturn("new-access-token");
         given(jwtTokenProvider.generateRefreshToken()).willReturn("new-refresh-token");
         given(jwtTokenProvider.getRefreshTokenValidity()).willReturn(1209600000L);
+        given(refreshTokenRepository.rotate(oldRefreshToken, "new-refresh-token", 1209600000L))
+                .willReturn(Optional.of(1L));
+        given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+        given(jwtTokenProvider.generateAccessToken(any(), eq(1L), isNull())).willReturn("new-access-token");
 
         // when
         AuthResponse response = authService.reissue(oldRefreshToken);
@@ -115,7 +109,6 @@ class AuthServiceTest {
         // then
         assertThat(response.getAccessToken()).isEqualTo("new-access-token");
         assertThat(response.getRefreshToken()).isEqualTo("new-refresh-token");
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
     }
 
     @Test
@@ -123,7 +116,10 @@ class AuthServiceTest {
     void reissue_WithInvalidRefreshToken_ShouldThrowException() {
         // given
         String invalidToken = "invalid-token";
-        given(refreshTokenRepository.findByRefreshToken(invalidToken)).willReturn(Optional.empty());
+        given(jwtTokenProvider.generateRefreshToken()).willReturn("new-refresh-token");
+        given(jwtTokenProvider.getRefreshTokenValidity()).willReturn(1209600000L);
+        given(refreshTokenRepository.rotate(invalidToken, "new-refresh-token", 1209600000L))
+                .willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> authService.reissue(invalidToken))
@@ -141,6 +137,6 @@ class AuthServiceTest {
         authService.logout("test@example.com");
 
         // then
-        verify(refreshTokenRepository).deleteById("1");
+        verify(refreshTokenRepository).revoke(1L);
     }
 }
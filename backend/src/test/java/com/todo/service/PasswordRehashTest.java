@@ -0,0 +1,81 @@
+package com.todo.service;
+
+import com.todo.config.TestSecurityConfig;
+import com.todo.dto.AuthRequest;
+import com.todo.entity.Member;
+import com.todo.repository.MemberRepository;
+import com.todo.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그인 성공 시 기존 형식/cost의 해시를 현재 설정으로 다시 저장하는지 검증
+ */
+@SpringBootTest(properties = "app.password-hashing.bcrypt-strength=5")
+@Import(TestSecurityConfig.class)
+class PasswordRehashTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("접두어 없는 기존 BCrypt 해시는 로그인 성공 후 {bcrypt} 형식의 현재 cost로 바뀐다")
+    void login_LegacyHash_IsRehashed() {
+        // given
+        String legacy = new BCryptPasswordEncoder(4).encode("password123");
+        saveMember("legacy@example.com", legacy);
+
+        // when
+        authService.login(new AuthRequest("legacy@example.com", "password123", null));
+
+        // then
+        String stored = memberRepository.findByEmail("legacy@example.com").orElseThrow().getPassword();
+        assertThat(stored).startsWith("{bcrypt}$2a$05$");
+        authService.login(new AuthRequest("legacy@example.com", "password123", null));
+        assertThat(memberRepository.findByEmail("legacy@example.com").orElseThrow().getPassword())
+                .isEqualTo(stored);
+    }
+
+    @Test
+    @DisplayName("로그인에 실패하면 해시를 바꾸지 않는다")
+    void login_WrongPassword_KeepsHash() {
+        // given
+        String legacy = new BCryptPasswordEncoder(4).encode("password123");
+        saveMember("wrong@example.com", legacy);
+
+        // when & then
+        assertThatThrownBy(() -> authService.login(new AuthRequest("wrong@example.com", "nope", null)))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(memberRepository.findByEmail("wrong@example.com").orElseThrow().getPassword()).isEqualTo(legacy);
+    }
+
+    private void saveMember(String email, String password) {
+        memberRepository.save(Member.builder()
+                .email(email)
+                .password(password)
+                .nickname("rehash")
+                .role(Member.Role.USER)
+                .build());
+    }
+}
@@ -0,0 +1,84 @@
+package com.todo.service;
+
+import com.todo.config.QueryDslConfig;
+import com.todo.entity.Member;
+import com.todo.entity.MemberTodoCounter;
+import com.todo.entity.Todo;
+import com.todo.repository.MemberTodoCounterRepository;
+import com.todo.repository.TodoRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({ QueryDslConfig.class, TodoCounterRepairJob.class })
+class TodoCounterRepairJobTest {
+
+    @Autowired
+    private TodoCounterRepairJob repairJob;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private MemberTodoCounterRepository counterRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("어긋난 카운터와 누락된 카운터를 todos 기준으로 보정하고 건수를 보고한다")
+    void repair_FixesDriftAndMissingCounters() {
+        // given
+        Member drifted = persistMember("drift@example.com");
+        Member missing = persistMember("missing@example.com");
+        Member correct = persistMember("correct@example.com");
+
+        saveTodo(drifted, true);
+        saveTodo(drifted, false);
+        saveTodo(missing, true);
+        saveTodo(correct, false);
+
+        counterRepository.save(new MemberTodoCounter(drifted.getId(), 5L, 0L));
+        counterRepository.save(new MemberTodoCounter(correct.getId(), 1L, 0L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        TodoCounterRepairJob.RepairReport report = repairJob.repair();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(report.scanned()).isEqualTo(3);
+        assertThat(report.drifted()).isEqualTo(2);
+
+        MemberTodoCounter fixed = counterRepository.findById(drifted.getId()).orElseThrow();
+        assertThat(fixed.getTotal()).isEqualTo(2L);
+        assertThat(fixed.getCompleted()).isEqualTo(1L);
+
+        MemberTodoCounter created = counterRepository.findById(missing.getId()).orElseThrow();
+        assertThat(created.getTotal()).isEqualTo(1L);
+        assertThat(created.getCompleted()).isEqualTo(1L);
+    }
+
+    private Member persistMember(String email) {
+        Member member = Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("tester")
+                .role(Member.Role.USER)
+                .build();
+        entityManager.persist(member);
+        return member;
+    }
+
+    private void saveTodo(Member member, boolean completed) {
+        todoRepository.save(Todo.builder().text("Todo").completed(completed).member(member).build());
+    }
+}
@@ -0,0 +1,102 @@
+package com.todo.service;
+
+import com.todo.config.MemberPrincipal;
+import com.todo.config.QueryCountInspector;
+import com.todo.config.TestSecurityConfig;
+import com.todo.dto.TodoRequest;
+import com.todo.entity.Member;
+import com.todo.repository.MemberRepository;
+import com.todo.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단건 생성 반복 vs 일괄 생성 처리량 비교 (1,000건)
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.todo.config.QueryCountInspector"
+})
+@Import(TestSecurityConfig.class)
+class TodoCreateBenchmarkTest {
+
+    private static final int ITEMS = 1_000;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .email("bulk@example.com")
+                .password("password")
+                .nickname("bulk")
+                .role(Member.Role.USER)
+                .build());
+        MemberPrincipal principal = new MemberPrincipal(member.getId(), member.getEmail(),
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("delete from todos");
+        jdbcTemplate.update("delete from member_todo_counters");
+        jdbcTemplate.update("delete from members");
+    }
+
+    @Test
+    @DisplayName("단건 생성 1,000회 vs 일괄 생성 1회")
+    void singleVsBatch() {
+        List<TodoRequest> requests = IntStream.range(0, ITEMS)
+                .mapToObj(i -> new TodoRequest("Todo " + i, null, null))
+                .toList();
+
+        QueryCountInspector.clear();
+        long start = System.nanoTime();
+        requests.forEach(todoService::create);
+        double singleMillis = (System.nanoTime() - start) / 1_000_000.0;
+        int singleStatements = QueryCountInspector.statements().size();
+
+        QueryCountInspector.clear();
+        start = System.nanoTime();
+        todoService.createAll(requests);
+        double batchMillis = (System.nanoTime() - start) / 1_000_000.0;
+        int batchStatements = QueryCountInspector.statements().size();
+
+        System.out.printf("[create] items=%d single: %.1f ms (%.0f items/s, %d statements) | "
+                        + "batch: %.1f ms (%.0f items/s, %d statements)%n",
+                ITEMS, singleMillis, ITEMS / singleMillis * 1000, singleStatements,
+                batchMillis, ITEMS / batchMillis * 1000, batchStatements);
+        assertThat(batchStatements).isLessThan(singleStatements / 10);
+    }
+}
@@ -0,0 +1,143 @@
+package com.todo.service;
+
+import com.todo.config.QueryDslConfig;
+import com.todo.config.TodoExportProperties;
+import com.todo.dto.TodoFileFormat;
+import com.todo.entity.Member;
+import com.todo.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1M Todo 회원 내보내기 중 힙 사용량이 일정한지 검증
+ *
+ * 출력 중 일정 간격(압축된 출력 PROBE_EVERY_BYTES)마다 GC 후 사용 중인 힙을 재어, 첫 측정 이후
+ * 행을 더 쓸수록 힙이 늘지 않는지 확인한다.
+ * (H2 메모리 DB의 테이블/페이지 캐시는 힙에 있으므로 쿼리 시작 시 한 번 늘어나는 양은 따로 출력만 함)
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        // PostgreSQL 커서처럼 결과를 미리 모으지 않고 읽는 만큼 계산 (H2 기본은 결과 전체를 먼저 만듦)
+        "spring.datasource.url=jdbc:h2:mem:export_bench;LAZY_QUERY_EXECUTION=1;DB_CLOSE_DELAY=-1"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 1M행 삽입을 배치마다 커밋 (미커밋 undo 로그가 힙에 쌓이지 않게)
+@Import({ QueryDslConfig.class, JacksonAutoConfiguration.class, TodoExporter.class })
+@EnableConfigurationProperties(TodoExportProperties.class)
+class TodoExportHeapBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int SEED_BATCH = 10_000;
+    private static final long PROBE_EVERY_BYTES = 512 * 1024;
+
+    /**
+     * 1M행 목록(TodoResponse)을 한 번에 만들면 수백 MB이므로, 이보다 훨씬 작으면 행 수와 무관하다고 본다
+     */
+    private static final long MAX_HEAP_GROWTH = 16L * 1024 * 1024;
+
+    @Autowired
+    private TodoExporter todoExporter;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("1M행 NDJSON(gzip) 내보내기 중 힙 증가량이 일정 범위 안에 있다")
+    void exportKeepsHeapFlat() throws Exception {
+        Long memberId = seed();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long baseline = usedAfterGc(memory);
+        HeapProbe probe = new HeapProbe(memory);
+
+        long start = System.nanoTime();
+        long rows = todoExporter.write(memberId, TodoFileFormat.NDJSON, true, probe);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("[export] rows=%,d %d ms, gzip %,d B, heap before %,d B, at first probe %,d B,"
+                        + " growth while streaming %,d B (%d probes)%n",
+                rows, millis, probe.bytes, baseline, probe.firstUsed, probe.maxUsed - probe.firstUsed, probe.probes);
+        assertThat(rows).isEqualTo(ROWS);
+        assertThat(probe.probes).isGreaterThan(3);
+        assertThat(probe.maxUsed - probe.firstUsed).isLessThan(MAX_HEAP_GROWTH);
+    }
+
+    private Long seed() {
+        Member member = memberRepository.save(Member.builder()
+                .email("export-bench@example.com")
+                .password("password")
+                .nickname("bench")
+                .role(Member.Role.USER)
+                .build());
+
+        for (int from = 0; from < ROWS; from += SEED_BATCH) {
+            List<Object[]> args = new ArrayList<>(SEED_BATCH);
+            for (int i = from; i < from + SEED_BATCH; i++) {
+                args.add(new Object[] { "내보내기 항목 " + i, i });
+            }
+            jdbcTemplate.batchUpdate("insert into todos (text, completed, display_order, member_id) values (?, false, ?, "
+                    + member.getId() + ")", args);
+        }
+        return member.getId();
+    }
+
+    private static long usedAfterGc(MemoryMXBean memory) {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * 압축된 출력은 버리고 크기만 세며, PROBE_EVERY_BYTES마다 힙을 잰다
+     */
+    private static final class HeapProbe extends OutputStream {
+
+        private final MemoryMXBean memory;
+        private long bytes;
+        private long nextProbe = PROBE_EVERY_BYTES;
+        private long firstUsed;
+        private long maxUsed;
+        private int probes;
+
+        private HeapProbe(MemoryMXBean memory) {
+            this.memory = memory;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+            if (bytes >= nextProbe) {
+                long used = usedAfterGc(memory);
+                if (probes++ == 0) {
+                    firstUsed = used;
+                }
+                maxUsed = Math.max(maxUsed, used);
+                nextProbe = bytes + PROBE_EVERY_BYTES;
+            }
+        }
+    }
+}
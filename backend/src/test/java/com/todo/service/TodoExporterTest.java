@@ -0,0 +1,144 @@
+package com.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.config.QueryDslConfig;
+import com.todo.config.TodoExportProperties;
+import com.todo.dto.TodoFileFormat;
+import com.todo.entity.Member;
+import com.todo.entity.Todo;
+import com.todo.exception.ServiceUnavailableException;
+import com.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({ QueryDslConfig.class, JacksonAutoConfiguration.class, TodoExporter.class })
+@EnableConfigurationProperties(TodoExportProperties.class)
+class TodoExporterTest {
+
+    @Autowired
+    private TodoExporter todoExporter;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TodoExportProperties exportProperties;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder()
+                .email("export@example.com")
+                .password("password")
+                .nickname("exporter")
+                .role(Member.Role.USER)
+                .build();
+        entityManager.persist(member);
+        Member other = Member.builder()
+                .email("other@example.com")
+                .password("password")
+                .nickname("other")
+                .role(Member.Role.USER)
+                .build();
+        entityManager.persist(other);
+
+        todoRepository.save(Todo.builder().text("우유 사기").displayOrder(1024).member(member).build());
+        todoRepository.save(Todo.builder().text("say \"hi\", then\nleave").completed(true).displayOrder(2048)
+                .member(member).build());
+        todoRepository.save(Todo.builder().text("남의 할 일").displayOrder(1024).member(other).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("NDJSON은 본인 Todo를 정렬 순서대로 한 줄에 하나씩 쓴다")
+    void writeNdjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = todoExporter.write(member.getId(), TodoFileFormat.NDJSON, false, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(first.get("text").asText()).isEqualTo("우유 사기");
+        assertThat(second.get("text").asText()).isEqualTo("say \"hi\", then\nleave");
+        assertThat(second.get("completed").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더 다음에 쉼표/따옴표/줄바꿈이 있는 값을 따옴표로 감싸 쓴다")
+    void writeCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        todoExporter.write(member.getId(), TodoFileFormat.CSV, false, out);
+
+        List<String> lines = List.of(out.toString(StandardCharsets.UTF_8).split("\r\n"));
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo("id,text,completed,displayOrder,createdAt,updatedAt");
+        assertThat(lines.get(1)).contains(",우유 사기,false,1024,");
+        assertThat(lines.get(2)).contains(",\"say \"\"hi\"\", then\nleave\",true,2048,");
+    }
+
+    @Test
+    @DisplayName("gzip이면 압축을 풀었을 때 원본과 같다")
+    void writeGzip() throws IOException {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+
+        todoExporter.write(member.getId(), TodoFileFormat.NDJSON, false, plain);
+        todoExporter.write(member.getId(), TodoFileFormat.NDJSON, true, gzip);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.toByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.toByteArray());
+        }
+    }
+
+    @Test
+    @DisplayName("동시 내보내기 수 한도를 넘으면 503 예외로 거절하고, 반납은 여러 번 호출해도 한 자리만 돌려준다")
+    void acquire_OverLimit_Rejects() {
+        List<Runnable> releases = new ArrayList<>();
+        for (int i = 0; i < exportProperties.getMaxConcurrent(); i++) {
+            releases.add(todoExporter.acquire());
+        }
+        assertThatThrownBy(() -> todoExporter.acquire())
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        Runnable first = releases.get(0);
+        first.run();
+        first.run();
+        releases.set(0, todoExporter.acquire());
+        assertThatThrownBy(() -> todoExporter.acquire())
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        releases.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,93 @@
+package com.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.dto.TodoFileFormat;
+import com.todo.dto.TodoImportResponse;
+import com.todo.dto.TodoRequest;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TodoImporterTest {
+
+    private final TodoImporter importer = new TodoImporter(new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator());
+
+    private final List<List<TodoRequest>> chunks = new ArrayList<>();
+
+    @Test
+    @DisplayName("NDJSON은 줄마다 TodoRequest 규칙으로 검증하고, 거부한 줄의 번호와 사유를 돌려준다")
+    void ndjson_AcceptsValidAndReportsRejected() throws IOException {
+        String body = """
+                {"text":"우유 사기"}
+
+                {"text":"   "}
+                not json
+                {"text":"운동","completed":true,"id":7,"createdAt":"2026-01-01T00:00:00"}
+                """;
+
+        TodoImportResponse result = read(TodoFileFormat.NDJSON, body);
+
+        assertThat(result.getAccepted()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(TodoImportResponse.RowError::line).containsExactly(3L, 4L);
+        assertThat(result.getErrors().get(0).message()).isEqualTo("할 일 내용은 필수입니다");
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0)).extracting(TodoRequest::getText).containsExactly("우유 사기", "운동");
+        assertThat(chunks.get(0).get(1).getCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더로 열을 찾고 따옴표 안의 쉼표/줄바꿈/따옴표를 값으로 읽는다")
+    void csv_ParsesQuotedFieldsByHeader() throws IOException {
+        String body = "\uFEFFid,text,completed,displayOrder\r\n"
+                + "1,우유 사기,false,1024\r\n"
+                + "2,\"say \"\"hi\"\", then\nleave\",true,2048\r\n"
+                + "3,,false,3072\r\n"
+                + "4,운동,maybe,4096\r\n";
+
+        TodoImportResponse result = read(TodoFileFormat.CSV, body);
+
+        assertThat(result.getAccepted()).isEqualTo(2);
+        assertThat(chunks.get(0)).extracting(TodoRequest::getText)
+                .containsExactly("우유 사기", "say \"hi\", then\nleave");
+        assertThat(chunks.get(0)).extracting(TodoRequest::getCompleted).containsExactly(false, true);
+        // 줄바꿈이 들어간 레코드 다음 줄 번호
+        assertThat(result.getErrors()).extracting(TodoImportResponse.RowError::line).containsExactly(5L, 6L);
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 text 열이 없으면 예외가 발생한다")
+    void csv_WithoutTextColumn_Throws() {
+        assertThatThrownBy(() -> read(TodoFileFormat.CSV, "title,done\nx,true\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("통과한 행은 CHUNK_SIZE 단위로 넘기고, 너무 긴 줄은 읽지 않고 거부한다")
+    void chunksAndRejectsOversizedRecords() throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < TodoImporter.CHUNK_SIZE + 1; i++) {
+            body.append("{\"text\":\"todo ").append(i).append("\"}\n");
+        }
+        body.append("{\"text\":\"").append("x".repeat(TodoImporter.MAX_RECORD_LENGTH)).append("\"}\n");
+
+        TodoImportResponse result = read(TodoFileFormat.NDJSON, body.toString());
+
+        assertThat(result.getAccepted()).isEqualTo(TodoImporter.CHUNK_SIZE + 1);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(chunks).extracting(List::size).containsExactly(TodoImporter.CHUNK_SIZE, 1);
+    }
+
+    private TodoImportResponse read(TodoFileFormat format, String body) throws IOException {
+        return importer.read(format, new StringReader(body), chunk -> chunks.add(List.copyOf(chunk)));
+    }
+}
@@ -0,0 +1,113 @@
+package com.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.todo.config.TodoCacheProperties;
+import com.todo.dto.TodoResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoListCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TodoListCache cache;
+
+    private final List<TodoResponse> todos = List.of(
+            new TodoResponse(1L, "Todo 1", false, 0, LocalDateTime.of(2026, 1, 1, 9, 0), null));
+
+    @BeforeEach
+    void setUp() {
+        cache = new TodoListCache(redisTemplate, objectMapper,
+                new TodoCacheProperties(true, Duration.ofMinutes(10)), meterRegistry);
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 DB에서 읽고 조회 시점의 세대(gen)로 저장한다")
+    void get_Miss_LoadsAndStoresWithObservedGeneration() {
+        // given
+        given(hashOperations.multiGet("todos:1", List.of("all", "gen"))).willReturn(Arrays.asList(null, "3"));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        List<TodoResponse> result = cache.get(1L, "all", () -> {
+            loads.incrementAndGet();
+            return todos;
+        });
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(loads).hasValue(1);
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("todos:1")),
+                eq("3"), eq("all"), anyString(), anyString());
+        assertThat(meterRegistry.get("todo.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 히트 시 DB를 조회하지 않고 저장된 목록을 복원한다")
+    void get_Hit_ReturnsCachedListWithoutLoading() throws Exception {
+        // given
+        String cached = objectMapper.writeValueAsString(todos.stream().map(TodoListCache.CachedTodo::from).toList());
+        given(hashOperations.multiGet("todos:1", List.of("active", "gen"))).willReturn(Arrays.asList(cached, "1"));
+
+        // when
+        List<TodoResponse> result = cache.get(1L, "active", () -> {
+            throw new AssertionError("DB를 조회하면 안 됩니다");
+        });
+
+        // then
+        assertThat(result).singleElement().satisfies(todo -> {
+            assertThat(todo.getText()).isEqualTo("Todo 1");
+            assertThat(todo.getCreatedAt()).isEqualTo(LocalDateTime.of(2026, 1, 1, 9, 0));
+        });
+        assertThat(meterRegistry.get("todo.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 조회로 대체한다")
+    void get_RedisDown_FallsBackToLoader() {
+        // given
+        given(hashOperations.multiGet("todos:1", List.of("all", "gen")))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        List<TodoResponse> result = cache.get(1L, "all", () -> todos);
+
+        // then
+        assertThat(result).isEqualTo(todos);
+        assertThat(meterRegistry.get("todo.cache.errors").counter().count()).isEqualTo(1);
+    }
+}
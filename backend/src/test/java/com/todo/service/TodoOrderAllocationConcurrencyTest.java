@@ -0,0 +1,192 @@
+package com.todo.service;
+
+import com.todo.config.MemberPrincipal;
+import com.todo.config.QueryCountInspector;
+import com.todo.config.TestSecurityConfig;
+import com.todo.dto.TodoRequest;
+import com.todo.entity.Member;
+import com.todo.entity.MemberTodoCounter;
+import com.todo.repository.MemberRepository;
+import com.todo.repository.MemberTodoCounterRepository;
+import com.todo.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 회원이 동시에 Todo를 생성해도 displayOrder가 겹치지 않고,
+ * 순서 할당에 count/max 쿼리가 실행되지 않음을 검증
+ * 카운터 행이 없는 회원의 동시 첫 변경(생성/일괄 생성/토글/보정 작업)도 실패 없이 하나의 행으로 합쳐지는지 검증
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.todo.config.QueryCountInspector")
+@Import(TestSecurityConfig.class)
+class TodoOrderAllocationConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 25;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberTodoCounterRepository counterRepository;
+
+    @Autowired
+    private TodoCounterRepairJob repairJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private MemberPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .email("concurrent@example.com")
+                .password("password")
+                .nickname("concurrent")
+                .role(Member.Role.USER)
+                .build());
+        // 기존 회원은 V4 마이그레이션으로 카운터 행이 있으므로 동일한 상태에서 시작
+        counterRepository.save(new MemberTodoCounter(member.getId(), 0L, 0L));
+        principal = new MemberPrincipal(member.getId(), member.getEmail(),
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        QueryCountInspector.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from todos");
+        jdbcTemplate.update("delete from member_todo_counters");
+        jdbcTemplate.update("delete from members");
+    }
+
+    @Test
+    @DisplayName("동시 생성에도 displayOrder가 모두 다르고 count/max 쿼리 없이 할당된다")
+    void concurrentCreate_AllocatesUniqueOrders() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Integer>>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            Callable<List<Integer>> task = () -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+                start.await();
+                List<Integer> orders = new ArrayList<>();
+                for (int i = 0; i < PER_THREAD; i++) {
+                    orders.add(todoService.create(new TodoRequest("T" + thread + "-" + i, null, null))
+                            .getDisplayOrder());
+                }
+                SecurityContextHolder.clearContext();
+                return orders;
+            };
+            futures.add(executor.submit(task));
+        }
+        start.countDown();
+
+        List<Integer> orders = new ArrayList<>();
+        for (Future<List<Integer>> future : futures) {
+            orders.addAll(future.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        int total = THREADS * PER_THREAD;
+        assertThat(orders).hasSize(total).doesNotHaveDuplicates();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(distinct display_order) from todos where member_id = ?", Long.class, principal.getId()))
+                .isEqualTo(total);
+
+        MemberTodoCounter counter = counterRepository.findById(principal.getId()).orElseThrow();
+        assertThat(counter.getTotal()).isEqualTo(total);
+        assertThat(counter.getLastDisplayOrder()).isEqualTo(total * TodoOrderRebalancer.GAP);
+
+        assertThat(QueryCountInspector.count("count(")).isZero();
+        assertThat(QueryCountInspector.count("max(")).isZero();
+    }
+
+    @Test
+    @DisplayName("카운터 행이 없는 회원의 동시 첫 변경은 PK 충돌 없이 모두 성공하고 카운터가 todos와 일치한다")
+    void concurrentFirstWrites_WithoutCounterRow_AllSucceed() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < 5; round++) {
+                // Todo 하나가 있는 상태에서 카운터 행만 없앰
+                jdbcTemplate.update("delete from todos");
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+                Long existing = todoService.create(new TodoRequest("existing", null, null)).getId();
+                SecurityContextHolder.clearContext();
+                counterRepository.deleteById(principal.getId());
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    int thread = t;
+                    futures.add(executor.submit(() -> {
+                        SecurityContextHolder.getContext().setAuthentication(
+                                new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+                        try {
+                            start.await();
+                            switch (thread % 4) {
+                                case 0 -> todoService.create(new TodoRequest("T" + thread, null, null));
+                                case 1 -> todoService.createAll(List.of(
+                                        new TodoRequest("B" + thread + "-1", null, null),
+                                        new TodoRequest("B" + thread + "-2", true, null)));
+                                case 2 -> todoService.toggleComplete(existing);
+                                default -> repairJob.repair();
+                            }
+                            return null;
+                        } finally {
+                            SecurityContextHolder.clearContext();
+                        }
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+
+                MemberTodoCounter counter = counterRepository.findById(principal.getId()).orElseThrow();
+                assertThat(counter.getTotal()).isEqualTo(jdbcTemplate.queryForObject(
+                        "select count(*) from todos where member_id = ?", Long.class, principal.getId()));
+                assertThat(counter.getCompleted()).isEqualTo(jdbcTemplate.queryForObject(
+                        "select count(*) from todos where member_id = ? and completed = true", Long.class,
+                        principal.getId()));
+                assertThat(jdbcTemplate.queryForObject(
+                        "select count(distinct display_order) from todos where member_id = ?", Long.class,
+                        principal.getId()))
+                        .isEqualTo(counter.getTotal());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
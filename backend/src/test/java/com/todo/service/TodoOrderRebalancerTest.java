@@ -0,0 +1,85 @@
+package com.todo.service;
+
+import com.todo.config.QueryDslConfig;
+import com.todo.entity.Member;
+import com.todo.entity.MemberTodoCounter;
+import com.todo.entity.Todo;
+import com.todo.repository.MemberTodoCounterRepository;
+import com.todo.repository.TodoRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({ QueryDslConfig.class, TodoOrderRebalancer.class })
+class TodoOrderRebalancerTest {
+
+    @Autowired
+    private TodoOrderRebalancer rebalancer;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private MemberTodoCounterRepository counterRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private TodoListCache todoListCache;
+
+    @Test
+    @DisplayName("예약된 회원의 순서 값을 현재 정렬 순서대로 GAP 간격으로 다시 부여한다")
+    void rebalancePending_RenumbersInCurrentOrder() {
+        // given: 간격이 소진된 순서 값 (1, 2, 2, 3)
+        Member member = persistMember("rebalance@example.com");
+        Long a = saveTodo(member, 1);
+        Long b = saveTodo(member, 2);
+        Long c = saveTodo(member, 2); // 같은 값이면 나중에 만든 것이 앞
+        Long d = saveTodo(member, 3);
+        counterRepository.save(new MemberTodoCounter(member.getId(), 4L, 0L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        rebalancer.schedule(member.getId());
+        rebalancer.rebalancePending();
+        entityManager.clear();
+
+        // then
+        List<Long> ids = todoRepository.findIdsInDisplayOrder(member.getId());
+        assertThat(ids).containsExactly(a, c, b, d);
+        assertThat(ids.stream().map(id -> todoRepository.findById(id).orElseThrow().getDisplayOrder()))
+                .containsExactly(1024, 2048, 3072, 4096);
+        MemberTodoCounter counter = counterRepository.findById(member.getId()).orElseThrow();
+        assertThat(counter.getVersion()).isEqualTo(2L);
+        assertThat(counter.getLastDisplayOrder()).isEqualTo(4096);
+        assertThat(rebalancer.isPending(member.getId())).isFalse();
+        verify(todoListCache).evictAfterCommit(member.getId());
+    }
+
+    private Member persistMember(String email) {
+        Member member = Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("tester")
+                .role(Member.Role.USER)
+                .build();
+        entityManager.persist(member);
+        return member;
+    }
+
+    private Long saveTodo(Member member, int order) {
+        return todoRepository.save(Todo.builder().text("Todo").displayOrder(order).member(member).build()).getId();
+    }
+}
@@ -0,0 +1,196 @@
+package com.todo.service;
+
+import com.todo.config.MemberPrincipal;
+import com.todo.config.TestSecurityConfig;
+import com.todo.config.TodoOutboxProperties;
+import com.todo.dto.TodoOutboxEvent;
+import com.todo.dto.TodoRequest;
+import com.todo.dto.TodoResponse;
+import com.todo.entity.Member;
+import com.todo.repository.MemberRepository;
+import com.todo.repository.MemberTodoCounterRepository;
+import com.todo.repository.RefreshTokenRepository;
+import com.todo.repository.TodoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * outbox 기록(변경 트랜잭션과 함께)과 배치 발행(SKIP LOCKED, 실패 시 재시도) 검증
+ */
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+class TodoOutboxTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoOutboxRelay relay;
+
+    @Autowired
+    private InMemoryTodoEventSink sink;
+
+    @Autowired
+    private TodoOutboxProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private MemberTodoCounterRepository counterRepository;
+
+    @MockBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from todo_outbox");
+        sink.clear();
+        member = memberRepository.save(Member.builder()
+                .email("outbox@example.com")
+                .password("password")
+                .nickname("outbox")
+                .role(Member.Role.USER)
+                .build());
+        MemberPrincipal principal = new MemberPrincipal(member.getId(), member.getEmail(),
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("delete from todo_outbox");
+        counterRepository.deleteAll();
+        todoRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("변경마다 outbox에 한 행씩 쌓이고, 발행하면 순서대로 sink로 나간 뒤 삭제된다")
+    void mutationsAreRecordedAndDrainedInOrder() {
+        double publishedBefore = meterRegistry.get("todo.outbox.published").counter().count();
+
+        TodoResponse created = todoService.create(new TodoRequest("outbox", null, null));
+        todoService.toggleComplete(created.getId());
+        todoService.delete(created.getId());
+        assertThat(pendingCount()).isEqualTo(3);
+
+        long drained = relay.drain();
+
+        assertThat(drained).isEqualTo(3);
+        assertThat(pendingCount()).isZero();
+        assertThat(sink.getPublished()).extracting(TodoOutboxEvent::type)
+                .containsExactly("created", "toggled", "deleted");
+        assertThat(sink.getPublished()).allSatisfy(event -> {
+            assertThat(event.memberId()).isEqualTo(member.getId());
+            assertThat(event.todoId()).isEqualTo(created.getId());
+        });
+        assertThat(sink.getPublished().get(0).payload()).contains("\"text\":\"outbox\"");
+        assertThat(meterRegistry.get("todo.outbox.published").counter().count() - publishedBefore).isEqualTo(3);
+        assertThat(meterRegistry.get("todo.outbox.pending.age").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("변경 트랜잭션이 롤백되면 outbox 행도 남지 않는다")
+    void rolledBackMutationLeavesNoEvent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            todoService.create(new TodoRequest("rolled back", null, null));
+            status.setRollbackOnly();
+        });
+
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("sink 발행이 실패하면 행이 그대로 남아 다음 주기에 다시 발행된다")
+    void failedPublishKeepsRows() {
+        todoService.create(new TodoRequest("retry", null, null));
+        TodoOutboxRelay failing = new TodoOutboxRelay(jdbcTemplate, transactionTemplate, events -> {
+            throw new IllegalStateException("sink down");
+        }, properties, new SimpleMeterRegistry());
+
+        assertThatThrownBy(failing::drain).isInstanceOf(IllegalStateException.class);
+        assertThat(pendingCount()).isEqualTo(1);
+
+        assertThat(relay.drain()).isEqualTo(1);
+        assertThat(sink.getPublished()).extracting(TodoOutboxEvent::type).containsExactly("created");
+    }
+
+    @Test
+    @DisplayName("다른 발행 작업이 잠근 행은 건너뛰어 같은 이벤트를 두 번 발행하지 않는다")
+    void concurrentDrainSkipsLockedRows() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            todoService.create(new TodoRequest("todo " + i, null, null));
+        }
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 다른 노드가 앞의 2건을 잠근 채 발행 중인 상황
+        CompletableFuture<List<Long>> otherNode = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    List<Long> ids = jdbcTemplate.queryForList(
+                            "select id from todo_outbox order by id limit 2 for update skip locked", Long.class);
+                    locked.countDown();
+                    await(release);
+                    return ids;
+                }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long drained = relay.drain();
+        release.countDown();
+        List<Long> lockedIds = otherNode.get(5, TimeUnit.SECONDS);
+
+        assertThat(drained).isEqualTo(2);
+        assertThat(sink.getPublished()).extracting(TodoOutboxEvent::id).doesNotContainAnyElementsOf(lockedIds);
+        assertThat(pendingCount()).isEqualTo(2);
+    }
+
+    private int pendingCount() {
+        return jdbcTemplate.queryForObject("select count(*) from todo_outbox", Integer.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package com.todo.service;
 
+import com.todo.dto.TodoEvent;
+import com.todo.dto.TodoMoveRequest;
 import com.todo.dto.TodoRequest;
 import com.todo.dto.TodoResponse;
+import com.todo.dto.TodoSearchResponse;
 import com.todo.entity.Todo;
 import com.todo.repository.TodoRepository;
 import com.todo.entity.Member;
+import com.todo.entity.MemberTodoCounter;
+import com.todo.repository.MemberTodoCounterRepository;
 import com.todo.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,9 +27,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +44,21 @@ class TodoServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberTodoCounterRepository counterRepository;
+
+    @Mock
+    private TodoListCache todoListCache;
+
+    @Mock
+    private TodoOrderRebalancer orderRebalancer;
+
+    @Mock
+    private TodoEventPublisher eventPublisher;
+
+    @Mock
+    private TodoStreamRegistry streamRegistry;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -58,6 +83,12 @@ class TodoServiceTest {
         SecurityContextHolder.setContext(securityContext);
     }
 
+    @AfterEach
+    void tearDown() {
+        // 목 SecurityContext가 같은 스레드의 다음 테스트 클래스로 새지 않도록
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     @DisplayName("새로운 할 일을 생성한다")
     void create() {
@@ -72,7 +103,8 @@ class TodoServiceTest {
         org.springframework.test.util.ReflectionTestUtils.setField(todo, "id", 1L);
 
         given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
-        given(todoRepository.countByMemberId(member.getId())).willReturn(0L);
+        given(counterRepository.incrementAndAllocate(member.getId(), 1, 0, 1024)).willReturn(1);
+        given(counterRepository.findLastDisplayOrder(member.getId())).willReturn(1024);
         given(todoRepository.save(any(Todo.class))).willReturn(todo);
 
         // when
@@ -82,6 +114,7 @@ class TodoServiceTest {
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getText()).isEqualTo("New Todo");
         verify(todoRepository).save(any(Todo.class));
+        verify(todoRepository, never()).countByMemberId(any());
     }
 
     @Test
@@ -89,8 +122,8 @@ class TodoServiceTest {
     void getStats() {
         // given
         given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
-        given(todoRepository.countByMemberId(member.getId())).willReturn(10L);
-        given(todoRepository.countByMemberIdAndCompleted(member.getId(), true)).willReturn(3L);
+        given(counterRepository.findById(member.getId()))
+                .willReturn(Optional.of(new MemberTodoCounter(member.getId(), 10L, 3L)));
 
         // when
         TodoService.TodoStats stats = todoService.getStats();
@@ -99,5 +132,119 @@ class TodoServiceTest {
         assertThat(stats.total()).isEqualTo(10L);
         assertThat(stats.completed()).isEqualTo(3L);
         assertThat(stats.active()).isEqualTo(7L);
+        verify(todoRepository, never()).countByMemberId(any());
+    }
+
+    @Test
+    @DisplayName("카운터 행이 없으면 생성 시 todos 기준으로 카운터를 만든다")
+    void create_WithoutCounterRow_RecountsAndSaves() {
+        // given
+        TodoRequest request = new TodoRequest("New Todo", true, null);
+
+        Todo todo = Todo.builder()
+                .text("New Todo")
+                .completed(true)
+                .member(member)
+                .build();
+        org.springframework.test.util.ReflectionTestUtils.setField(todo, "id", 1L);
+
+        given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
+        given(counterRepository.incrementAndAllocate(member.getId(), 1, 1, 1024)).willReturn(0);
+        given(todoRepository.findMaxDisplayOrder(member.getId())).willReturn(null);
+        given(todoRepository.countByMemberId(member.getId())).willReturn(0L);
+        given(todoRepository.countByMemberIdAndCompleted(member.getId(), true)).willReturn(0L);
+        given(todoRepository.save(any(Todo.class))).willReturn(todo);
+
+        // when
+        todoService.create(request);
+
+        // then
+        verify(counterRepository).save(org.mockito.ArgumentMatchers.argThat(counter ->
+                counter.getTotal() == 1L && counter.getCompleted() == 1L && counter.getLastDisplayOrder() == 1024));
+    }
+
+    @Test
+    @DisplayName("순서 이동은 이웃 순서 값의 중간 값을 사용한다")
+    void move_UsesMidpointBetweenNeighbors() {
+        // given
+        Todo moving = todoWithOrder(1L, 3072);
+        Todo target = todoWithOrder(2L, 2048);
+
+        given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
+        given(counterRepository.increment(member.getId(), 0, 0)).willReturn(1);
+        given(todoRepository.findById(1L)).willReturn(Optional.of(moving));
+        given(todoRepository.findById(2L)).willReturn(Optional.of(target));
+        given(todoRepository.findPrevDisplayOrder(member.getId(), 2048, 1L)).willReturn(1024);
+
+        // when
+        TodoResponse response = todoService.move(new TodoMoveRequest(1L, 2L, null));
+
+        // then
+        assertThat(response.getDisplayOrder()).isEqualTo(1536);
+        verify(todoRepository, never()).shiftDisplayOrder(any(), org.mockito.ArgumentMatchers.anyInt(),
+                org.mockito.ArgumentMatchers.anyInt(), any());
+        verify(orderRebalancer, never()).schedule(any());
+        verify(eventPublisher).publishAfterCommit(member.getId(), TodoEvent.moved(response));
+    }
+
+    @Test
+    @DisplayName("이웃 사이에 빈 순서 값이 없어 뒤쪽 항목을 밀면 moved 대신 invalidated 이벤트를 발행한다")
+    void move_WithExhaustedGap_ShiftsAndPublishesInvalidated() {
+        // given: 기준 항목(2048) 바로 앞이 2047
+        Todo moving = todoWithOrder(1L, 4096);
+        Todo target = todoWithOrder(2L, 2048);
+
+        given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
+        given(counterRepository.increment(member.getId(), 0, 0)).willReturn(1);
+        given(todoRepository.findById(1L)).willReturn(Optional.of(moving));
+        given(todoRepository.findById(2L)).willReturn(Optional.of(target));
+        given(todoRepository.findPrevDisplayOrder(member.getId(), 2048, 1L)).willReturn(2047);
+
+        // when
+        TodoResponse response = todoService.move(new TodoMoveRequest(1L, 2L, null));
+
+        // then: 2048 이상을 GAP만큼 밀고 2047과 3072 사이의 중간 값 사용
+        verify(todoRepository).shiftDisplayOrder(member.getId(), 2048, TodoOrderRebalancer.GAP, 1L);
+        assertThat(response.getDisplayOrder()).isEqualTo(2559);
+        ArgumentCaptor<TodoEvent> event = ArgumentCaptor.forClass(TodoEvent.class);
+        verify(eventPublisher).publishAfterCommit(eq(member.getId()), event.capture());
+        assertThat(event.getValue().type()).isEqualTo("invalidated");
+    }
+
+    @Test
+    @DisplayName("검색은 limit + 1건으로 다음 페이지를 판단하고 다음 offset을 돌려준다")
+    void search_WithMoreResults_ReturnsNextOffset() {
+        given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
+        given(todoRepository.search(member.getId(), "우유", 20, 3)).willReturn(java.util.List.of(
+                new TodoResponse(3L, "우유 사기", false, 0, null, null),
+                new TodoResponse(2L, "저지방 우유", false, 1, null, null),
+                new TodoResponse(1L, "우유갑 버리기", false, 2, null, null)));
+
+        // when (앞뒤 공백은 제거)
+        TodoSearchResponse response = todoService.search("  우유 ", 2, 20);
+
+        // then
+        assertThat(response.getItems()).extracting(TodoResponse::getId).containsExactly(3L, 2L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextOffset()).isEqualTo(22);
+    }
+
+    @Test
+    @DisplayName("beforeId와 afterId를 함께 지정하면 예외가 발생한다")
+    void move_WithBothTargets_Throws() {
+        given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
+
+        assertThatThrownBy(() -> todoService.move(new TodoMoveRequest(1L, 2L, 3L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Todo todoWithOrder(Long id, int order) {
+        Todo todo = Todo.builder()
+                .text("Todo " + id)
+                .displayOrder(order)
+                .member(member)
+                .build();
+        org.springframework.test.util.ReflectionTestUtils.setField(todo, "id", id);
+        return todo;
     }
 }
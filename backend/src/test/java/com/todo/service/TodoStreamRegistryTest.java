@@ -0,0 +1,159 @@
+package com.todo.service;
+
+import com.todo.config.TodoStreamProperties;
+import com.todo.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TodoStreamRegistryTest {
+
+    private final TodoStreamRegistry registry = new TodoStreamRegistry(
+            new TodoStreamProperties(false, 3, 2, 8, 1, Duration.ofSeconds(2), 4, Duration.ofSeconds(15),
+                    Duration.ofMinutes(1)),
+            new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("노드 연결 수 한도를 넘으면 503 예외로 거절한다")
+    void register_OverNodeLimit_Rejects() {
+        registry.register(1L);
+        registry.register(2L);
+        registry.register(3L);
+
+        assertThatThrownBy(() -> registry.register(4L))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(registry.getConnectionCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("회원별 연결 수 한도를 넘으면 가장 오래된 연결을 닫는다")
+    void register_OverMemberLimit_ClosesOldest() {
+        registry.register(1L);
+        registry.register(1L);
+        registry.register(1L);
+
+        assertThat(registry.getConnectionCount(1L)).isEqualTo(2);
+        assertThat(registry.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("쓰기가 멈춘 연결은 sendTimeout 뒤 제거되고, 다른 회원의 전달은 멈춘 쓰기가 끝나기를 기다리지 않는다")
+    void stalledClient_DoesNotBlockOtherConnections() throws Exception {
+        // given: 전송 스레드 1개, 회원 1의 소켓 쓰기는 release 전까지 emitter 모니터를 잡은 채 멈춤
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<Long> delivered = new LinkedBlockingQueue<>();
+        BlockingQueue<String> completedOn = new LinkedBlockingQueue<>();
+        TodoStreamRegistry stalling = stallingRegistry(4, release, delivered, completedOn);
+
+        try {
+            // when: 멈춘 연결의 쓰기가 전송 스레드에 먼저 올라간 뒤 다른 회원에게 이벤트 전달
+            stalling.register(1L);
+            stalling.register(2L);
+            long started = System.nanoTime();
+            stalling.dispatch(2L, "created", "{}");
+
+            // then: connected + created가 sendTimeout 언저리에 도착 (멈춘 쓰기는 release 전까지 풀리지 않음)
+            assertThat(delivered.poll(5, TimeUnit.SECONDS)).isEqualTo(2L);
+            assertThat(delivered.poll(5, TimeUnit.SECONDS)).isEqualTo(2L);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(5_000);
+            assertThat(stalling.getConnectionCount(1L)).isZero();
+
+            // 멈춘 연결은 이미 제거되었으므로 이후 전달은 기다림 없이 바로 도착
+            stalling.dispatch(1L, "created", "{}");
+            stalling.dispatch(2L, "updated", "{}");
+            assertThat(delivered.poll(1, TimeUnit.SECONDS)).isEqualTo(2L);
+
+            // 멈춘 emitter의 complete는 쓰기가 끝난 뒤 쓰기 스레드에서 호출
+            assertThat(completedOn).isEmpty();
+            release.countDown();
+            assertThat(completedOn.poll(5, TimeUnit.SECONDS)).isEqualTo("todo-stream-writer");
+        } finally {
+            release.countDown();
+            stalling.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("멈춘 쓰기 스레드가 상한에 차면 쓰기를 맡기지 못한 연결을 바로 닫는다")
+    void stalledWritesAtLimit_ClosesConnectionWithoutWaiting() throws Exception {
+        // given: 쓰기 스레드 최대 1개 (전송 스레드 1 + 멈춘 쓰기 0)
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<Long> delivered = new LinkedBlockingQueue<>();
+        BlockingQueue<String> completedOn = new LinkedBlockingQueue<>();
+        TodoStreamRegistry stalling = stallingRegistry(0, release, delivered, completedOn);
+
+        try {
+            // when: 회원 1의 쓰기가 유일한 쓰기 스레드를 붙잡은 동안 회원 2 연결
+            stalling.register(1L);
+            stalling.register(2L);
+
+            // then: 회원 2는 쓰기를 맡기지 못해 전달 없이 닫힘 (complete는 전송 스레드에서 바로 호출)
+            assertThat(completedOn.poll(5, TimeUnit.SECONDS)).isEqualTo("todo-stream-sender");
+            assertThat(delivered).isEmpty();
+            assertThat(stalling.getConnectionCount()).isZero();
+        } finally {
+            release.countDown();
+            stalling.shutdown();
+        }
+    }
+
+    /**
+     * 회원 1의 send는 release 전까지 emitter 모니터를 잡은 채 멈추고 인터럽트도 무시한다 (소켓 쓰기 흉내)
+     */
+    private TodoStreamRegistry stallingRegistry(int maxStalledWrites, CountDownLatch release,
+                                                BlockingQueue<Long> delivered, BlockingQueue<String> completedOn) {
+        return new TodoStreamRegistry(
+                new TodoStreamProperties(false, 10, 2, 8, 1, Duration.ofMillis(200), maxStalledWrites,
+                        Duration.ofSeconds(15), Duration.ofMinutes(1)),
+                new SimpleMeterRegistry()) {
+            @Override
+            SseEmitter newEmitter(Long memberId) {
+                return new SseEmitter(60_000L) {
+                    @Override
+                    public synchronized void send(SseEventBuilder builder) throws IOException {
+                        if (memberId == 1L) {
+                            awaitIgnoringInterrupts(release);
+                            throw new IOException("broken pipe");
+                        }
+                        delivered.add(memberId);
+                    }
+
+                    @Override
+                    public synchronized void complete() {
+                        completedOn.add(Thread.currentThread().getName());
+                        super.complete();
+                    }
+                };
+            }
+        };
+    }
+
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (true) {
+            try {
+                latch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                return;
+            } catch (InterruptedException ignored) {
+                // 소켓 쓰기는 인터럽트로 풀리지 않음
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.todo.service;
+
+import com.todo.config.MemberPrincipal;
+import com.todo.config.TestSecurityConfig;
+import com.todo.config.TodoTrashProperties;
+import com.todo.dto.TodoRequest;
+import com.todo.dto.TodoResponse;
+import com.todo.entity.Member;
+import com.todo.repository.MemberRepository;
+import com.todo.repository.MemberTodoCounterRepository;
+import com.todo.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 완료 항목 일괄 삭제(휴지통 이동), 보관 기간 안의 복원, 보관 기간이 지난 행의 배치 정리 검증
+ */
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+class TodoTrashTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoTrashPurger purger;
+
+    @Autowired
+    private TodoOrderRebalancer orderRebalancer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberTodoCounterRepository counterRepository;
+
+    @MockBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("trash@example.com")
+                .password("password")
+                .nickname("trash")
+                .role(Member.Role.USER)
+                .build());
+        MemberPrincipal principal = new MemberPrincipal(member.getId(), member.getEmail(),
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        // 휴지통 행은 엔티티 조회에서 제외되므로 SQL로 정리
+        jdbcTemplate.update("delete from todos");
+        counterRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("완료 항목 일괄 삭제는 휴지통으로 옮기고, 보관 기간 안이면 복원할 수 있다")
+    void deleteCompletedMovesToTrashAndRestores() {
+        TodoResponse done = createCompleted("done");
+        TodoResponse active = todoService.create(new TodoRequest("active", null, null));
+
+        todoService.deleteCompleted();
+
+        assertThat(todoService.findAll()).extracting(TodoResponse::getId).containsExactly(active.getId());
+        assertThat(todoService.getStats()).isEqualTo(new TodoService.TodoStats(1, 1, 0));
+        assertThat(todoService.findTrash(100)).extracting(TodoResponse::getId).containsExactly(done.getId());
+        assertThat(rowCount()).isEqualTo(2);
+
+        assertThat(todoService.restoreTrash()).isEqualTo(1);
+
+        assertThat(todoService.findAll()).extracting(TodoResponse::getId)
+                .containsExactlyInAnyOrder(done.getId(), active.getId());
+        assertThat(todoService.getStats()).isEqualTo(new TodoService.TodoStats(2, 1, 1));
+        assertThat(todoService.findTrash(100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("복원한 항목은 기존 순서를 유지한 채 맨 뒤의 새 순서 값을 받아, 휴지통에 있는 동안 재부여된 항목과 겹치지 않는다")
+    void restoredRowsGetFreshOrdersAtEnd() {
+        TodoResponse first = createCompleted("first");
+        TodoResponse second = createCompleted("second");
+        TodoResponse active = todoService.create(new TodoRequest("active", null, null));
+        todoService.deleteCompleted();
+        // 휴지통에 있는 동안 남은 항목만 다시 매겨 active가 휴지통 항목의 예전 순서 값(1024)을 가져감
+        orderRebalancer.rebalance(member.getId());
+
+        assertThat(todoService.restoreTrash()).isEqualTo(2);
+
+        List<TodoResponse> todos = todoService.findAll();
+        assertThat(todos).extracting(TodoResponse::getId)
+                .containsExactly(active.getId(), first.getId(), second.getId());
+        assertThat(todos).extracting(TodoResponse::getDisplayOrder).containsExactly(1024, 2048, 3072);
+        int lastOrder = jdbcTemplate.queryForObject(
+                "select last_display_order from member_todo_counters where member_id = ?", Integer.class, member.getId());
+        assertThat(lastOrder).isEqualTo(3072);
+        assertThat(todoService.create(new TodoRequest("next", null, null)).getDisplayOrder()).isEqualTo(4096);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 휴지통 항목은 조회/복원되지 않고 정리 작업이 물리 삭제한다")
+    void expiredTrashIsPurged() {
+        TodoResponse expired = createCompleted("expired");
+        TodoResponse recent = createCompleted("recent");
+        todoService.deleteCompleted();
+        jdbcTemplate.update("update todos set deleted_at = ? where id = ?",
+                LocalDateTime.now().minusDays(8), expired.getId());
+
+        assertThat(todoService.findTrash(100)).extracting(TodoResponse::getId).containsExactly(recent.getId());
+
+        assertThat(purger.purge(LocalDateTime.now())).isEqualTo(1);
+
+        assertThat(rowCount()).isEqualTo(1);
+        assertThat(todoService.restoreTrash()).isEqualTo(1);
+        assertThat(todoService.findAll()).extracting(TodoResponse::getId).containsExactly(recent.getId());
+    }
+
+    @Test
+    @DisplayName("정리 작업은 한 주기에 batchSize x maxBatchesPerRun 행까지만 지운다")
+    void purgeIsBoundedPerRun() {
+        for (int i = 0; i < 5; i++) {
+            createCompleted("todo " + i);
+        }
+        todoService.deleteCompleted();
+        TodoTrashPurger bounded = new TodoTrashPurger(jdbcTemplate, transactionTemplate,
+                new TodoTrashProperties(Duration.ZERO, 2, Duration.ofMillis(10), 2, Duration.ofHours(1)),
+                new SimpleMeterRegistry());
+        LocalDateTime later = LocalDateTime.now().plusSeconds(1);
+
+        assertThat(bounded.purge(later)).isEqualTo(4);
+        assertThat(rowCount()).isEqualTo(1);
+        assertThat(bounded.purge(later)).isEqualTo(1);
+        assertThat(rowCount()).isZero();
+    }
+
+    private TodoResponse createCompleted(String text) {
+        TodoResponse created = todoService.create(new TodoRequest(text, null, null));
+        return todoService.toggleComplete(created.getId());
+    }
+
+    private int rowCount() {
+        return jdbcTemplate.queryForObject("select count(*) from todos", Integer.class);
+    }
+}
@@ -1,11 +1,17 @@
 "use client";
 
-import { useEffect, useState } from "react";
-import { Todo, TodoStats, fetchTodos, createTodo, toggleTodo, deleteTodo, updateTodo, clearCompletedTodos, fetchStats } from "@/lib/api";
+import { useEffect, useRef, useState } from "react";
+import { Todo, TodoStats, fetchTodos, createTodo, toggleTodo, deleteTodo, updateTodo, moveTodo, clearCompletedTodos, fetchStats } from "@/lib/api";
 import Header from "./Header";
 import AddTodo from "./AddTodo";
 import FilterTabs from "./FilterTabs";
 import TodoList from "./TodoList";
+import { TodoEvent, subscribeTodoStream } from "@/lib/todoStream";
+
+const matchesFilter = (todo: Todo, filter: string) =>
+    filter === "all" || (filter === "active" ? !todo.completed : todo.completed);
+
+const byDisplayOrder = (a: Todo, b: Todo) => a.displayOrder - b.displayOrder;
 
 export default function TodoContainer() {
     const [todos, setTodos] = useState<Todo[]>([]);
@@ -13,12 +19,16 @@ export default function TodoContainer() {
     const [stats, setStats] = useState<TodoStats>({ total: 0, active: 0, completed: 0 });
     const [isLoading, setIsLoading] = useState(false);
     const [error, setError] = useState<string | null>(null);
+    // 스트림이 연결되어 있으면 변경 후 재조회 대신 서버가 보내는 이벤트로 갱신
+    const streamConnected = useRef(false);
+    const filterRef = useRef(filter);
+    filterRef.current = filter;
 
     const loadData = async () => {
         try {
             // setIsLoading(true); // Initial load only, handled by parent or suspense usually, but here simple
             const [fetchedTodos, fetchedStats] = await Promise.all([
-                fetchTodos(filter),
+                fetchTodos(filterRef.current),
                 fetchStats()
             ]);
             setTodos(fetchedTodos);
@@ -34,11 +44,46 @@ export default function TodoContainer() {
         loadData();
     }, [filter]);
 
+    const applyEvent = (event: TodoEvent) => {
+        if (event.type === "invalidated") {
+            loadData();
+            return;
+        }
+        setStats(prev => {
+            const total = prev.total + event.totalDelta;
+            const completed = prev.completed + event.completedDelta;
+            return { total, completed, active: total - completed };
+        });
+        setTodos(prev => {
+            const rest = prev.filter(t => t.id !== event.todoId);
+            if (event.type === "deleted" || !event.todo || !matchesFilter(event.todo, filterRef.current)) {
+                return rest;
+            }
+            return [...rest, event.todo].sort(byDisplayOrder);
+        });
+    };
+
+    const syncAfterMutation = async () => {
+        if (!streamConnected.current) {
+            await loadData();
+        }
+    };
+
+    useEffect(() => {
+        return subscribeTodoStream({
+            onEvent: applyEvent,
+            onConnectionChange: (connected) => {
+                streamConnected.current = connected;
+            },
+        });
+        // eslint-disable-next-line react-hooks/exhaustive-deps
+    }, []);
+
     const handleAdd = async (text: string) => {
         setIsLoading(true);
         try {
             await createTodo(text);
-            await loadData();
+            await syncAfterMutation();
         } catch {
             setError("추가 실패");
         } finally {
@@ -51,7 +96,7 @@ export default function TodoContainer() {
         setTodos(prev => prev.map(t => t.id === id ? { ...t, completed: !t.completed } : t));
         try {
             await toggleTodo(id);
-            await loadData(); // Re-sync stats
+            await syncAfterMutation(); // Re-sync stats (stream delivers it when connected)
         } catch {
             setError("상태 변경 실패");
             loadData(); // Revert
@@ -62,7 +107,7 @@ export default function TodoContainer() {
         setTodos(prev => prev.filter(t => t.id !== id));
         try {
             await deleteTodo(id);
-            await loadData();
+            await syncAfterMutation();
         } catch {
             setError("삭제 실패");
             loadData();
@@ -72,7 +117,7 @@ export default function TodoContainer() {
     const handleUpdate = async (id: number, text: string) => {
         try {
             await updateTodo(id, { text });
-            await loadData();
+            await syncAfterMutation();
         } catch {
             setError("수정 실패");
         }
@@ -83,7 +128,7 @@ export default function TodoContainer() {
         setIsLoading(true);
         try {
             await clearCompletedTodos();
-            await loadData();
+            await syncAfterMutation();
         } catch {
             setError("일괄 삭제 실패");
         } finally {
@@ -91,19 +136,16 @@ export default function TodoContainer() {
         }
     };
 
-    const handleReorder = async (reorderedTodos: Todo[]) => {
+    const handleReorder = async (reorderedTodos: Todo[], movedId: number) => {
         setTodos(reorderedTodos); // Optimistic
 
-        // Sync changes to server
+        // Sync the single move to server (neighbors decide the new position)
         try {
-            // Find items that changed position and update them
-            // For simplicity/robustness, we can update ones where displayOrder differs
-            const updates = reorderedTodos
-                .filter((t, index) => t.displayOrder !== index)
-                .map((t, index) => updateTodo(t.id, { displayOrder: index }));
-
-            await Promise.all(updates);
-            // No need to reload data if successful, as local state is correct
+            const index = reorderedTodos.findIndex((t) => t.id === movedId);
+            const next = reorderedTodos[index + 1];
+            const prev = reorderedTodos[index - 1];
+            const moved = await moveTodo(movedId, next ? { beforeId: next.id } : { afterId: prev.id });
+            setTodos((current) => current.map((t) => (t.id === moved.id ? moved : t)));
         } catch {
             setError("순서 저장 실패");
             loadData(); // Revert
@@ -21,7 +21,7 @@ interface TodoListProps {
     onToggle: (id: number) => void;
     onDelete: (id: number) => void;
     onUpdate: (id: number, text: string) => void;
-    onReorder: (todos: Todo[]) => void;
+    onReorder: (todos: Todo[], movedId: number) => void;
 }
 
 export default function TodoList({ todos, onToggle, onDelete, onUpdate, onReorder }: TodoListProps) {
@@ -41,13 +41,8 @@ export default function TodoList({ todos, onToggle, onDelete, onUpdate, onReorde
 
             const reordered = arrayMove(todos, oldIndex, newIndex);
 
-            // Update displayOrder based on new index
-            const updated = reordered.map((item, index) => ({
-                ...item,
-                displayOrder: index
-            }));
-
-            onReorder(updated);
+            // 서버에는 옮긴 항목 하나만 전달 (displayOrder는 서버가 계산)
+            onReorder(reordered, active.id as number);
         }
     };
 
@@ -61,6 +61,12 @@ export const updateTodo = async (id: number, updates: Partial<Todo>): Promise<To
     return response.data;
 };
 
+// 드래그앤드롭 이동: id 항목을 beforeId 앞(또는 afterId 뒤)으로 옮긴다 (요청 1회)
+export const moveTodo = async (id: number, target: { beforeId?: number; afterId?: number }): Promise<Todo> => {
+    const response = await api.patch<Todo>('/todos/order', { id, ...target });
+    return response.data;
+};
+
 export const toggleTodo = async (id: number): Promise<Todo> => {
     const response = await api.patch<Todo>(`/todos/${id}/toggle`);
     return response.data;
@@ -0,0 +1,83 @@
+import { Todo } from './api';
+
+const STREAM_URL = 'http://localhost:8080/api/todos/stream';
+
+// Backend TodoEvent (GET /api/todos/stream)
+export interface TodoEvent {
+    type: 'created' | 'updated' | 'toggled' | 'moved' | 'deleted' | 'invalidated';
+    todoId: number | null;
+    todo: Todo | null;
+    totalDelta: number;
+    completedDelta: number;
+}
+
+interface StreamHandlers {
+    onEvent: (event: TodoEvent) => void;
+    onConnectionChange: (connected: boolean) => void;
+}
+
+/**
+ * SSE 변경 스트림 구독
+ * EventSource는 Authorization 헤더를 보낼 수 없으므로 fetch 스트림을 직접 파싱한다.
+ * 끊기면 지수 백오프(최대 30초)로 재연결하고, 재연결 직후 "invalidated"로 목록을 다시 맞춘다.
+ */
+export const subscribeTodoStream = ({ onEvent, onConnectionChange }: StreamHandlers): (() => void) => {
+    const controller = new AbortController();
+    let retryDelay = 1000;
+    let firstConnect = true;
+
+    const connect = async () => {
+        while (!controller.signal.aborted) {
+            try {
+                const token = localStorage.getItem('accessToken');
+                const response = await fetch(STREAM_URL, {
+                    headers: token ? { Authorization: `Bearer ${token}` } : {},
+                    signal: controller.signal,
+                });
+                if (!response.ok || !response.body) throw new Error(`stream ${response.status}`);
+
+                onConnectionChange(true);
+                retryDelay = 1000;
+                if (!firstConnect) {
+                    // 끊겨 있던 동안의 변경을 놓쳤을 수 있으므로 다시 조회
+                    onEvent({ type: 'invalidated', todoId: null, todo: null, totalDelta: 0, completedDelta: 0 });
+                }
+                firstConnect = false;
+
+                const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+                let buffer = '';
+                while (true) {
+                    const { value, done } = await reader.read();
+                    if (done) break;
+                    buffer += value;
+                    let boundary;
+                    while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+                        const block = buffer.slice(0, boundary);
+                        buffer = buffer.slice(boundary + 2);
+                        const event = parseBlock(block);
+                        if (event) onEvent(event);
+                    }
+                }
+            } catch {
+                if (controller.signal.aborted) return;
+            }
+            onConnectionChange(false);
+            await new Promise((resolve) => setTimeout(resolve, retryDelay));
+            retryDelay = Math.min(retryDelay * 2, 30000);
+        }
+    };
+
+    connect();
+    return () => controller.abort();
+};
+
+const parseBlock = (block: string): TodoEvent | null => {
+    let name = '';
+    let data = '';
+    for (const line of block.split('\n')) {
+        if (line.startsWith('event:')) name = line.slice(6).trim();
+        else if (line.startsWith('data:')) data += line.slice(5);
+    }
+    if (!name || name === 'connected' || !data) return null; // 주석(ping) 및 연결 확인 이벤트 무시
+    return JSON.parse(data) as TodoEvent;
+};
@@ -440,30 +440,26 @@ async function handleDrop(e) {
     renderTodos();
 
     // Sync with Server
-    // 순서가 변경된 모든 아이템의 displayOrder 업데이트
-    // 실제로는 효율성을 위해 변경된 범위만 업데이트하거나, 
-    // LinkedList 처럼 앞뒤/순서값 등을 조정하는 방식이 좋음.
-    // 여기서는 간단히 전체 리스트 순서를 재할당하여 전송 (데이터 양이 적으므로)
+    // 옮긴 항목 하나만 전송 (바로 뒤 항목 앞으로, 맨 끝이면 바로 앞 항목 뒤로)
+    // displayOrder는 서버가 이웃 사이의 빈 값으로 계산하므로 보통 한 행만 바뀐다
+    const next = todos[targetIndex + 1];
+    const prev = todos[targetIndex - 1];
+    const target = next ? { beforeId: next.id } : { afterId: prev.id };
 
     try {
-        const updatePromises = todos.map((todo, index) => {
-            // 순서가 바뀐 항목만 요청
-            if (todo.displayOrder !== index) {
-                todo.displayOrder = index;
-                return fetch(`${API_BASE_URL}/${todo.id}`, {
-                    method: 'PUT',
-                    headers: { 'Content-Type': 'application/json' },
-                    body: JSON.stringify({ displayOrder: index })
-                });
-            }
-            return Promise.resolve();
+        const response = await fetch(`${API_BASE_URL}/order`, {
+            method: 'PATCH',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ id: draggedId, ...target })
         });
+        if (!response.ok) throw new Error('Failed to move todo');
 
-        await Promise.all(updatePromises);
+        const moved = await response.json();
+        removed.displayOrder = moved.displayOrder;
     } catch (error) {
         console.error('Error syncing order:', error);
         showError('순서 저장에 실패했습니다.');
-        // 에러 시 원래대로 되돌리는 로직이 필요할 수 있음
+        await fetchTodos();
     }
 }
 